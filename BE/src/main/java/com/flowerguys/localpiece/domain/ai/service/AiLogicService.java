@@ -11,6 +11,7 @@ import com.flowerguys.localpiece.global.common.ErrorCode;
 import com.flowerguys.localpiece.global.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
@@ -28,6 +29,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AiLogicService {
 
+    @Qualifier("aiServerRestTemplate")
     private final RestTemplate restTemplate;
     private final ImageUploadService imageUploadService;
     private final MetadataService metadataService;
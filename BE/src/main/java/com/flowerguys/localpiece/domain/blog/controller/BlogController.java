@@ -5,7 +5,10 @@ import com.flowerguys.localpiece.domain.blog.dto.BlogCreateRequest;
 import com.flowerguys.localpiece.domain.blog.dto.BlogResponse;
 import com.flowerguys.localpiece.domain.blog.dto.BlogUpdateRequest;
 import com.flowerguys.localpiece.domain.blog.service.BlogService;
-import com.flowerguys.localpiece.domain.blog.dto.BlogListResponseDto;
+import com.flowerguys.localpiece.domain.hashtag.dto.TrendingHashtagDto;
+import com.flowerguys.localpiece.domain.hashtag.service.TrendingHashtagTracker;
+import com.flowerguys.localpiece.domain.blog.dto.BlogFeedResponse;
+import com.flowerguys.localpiece.domain.blog.dto.BlogSearchResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -25,6 +28,7 @@ public class BlogController {
 
     private final BlogService blogService;
     private final ObjectMapper objectMapper;
+    private final TrendingHashtagTracker trendingHashtagTracker;
 
     @PostMapping(consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
     public ResponseEntity<BlogResponse> createBlog(
@@ -54,9 +58,44 @@ public class BlogController {
     }
     
     @GetMapping
-    public ResponseEntity<List<BlogListResponseDto>> getBlogList(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(blogService.getBlogList(userDetails));
+    public ResponseEntity<BlogFeedResponse> getBlogList(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(blogService.getBlogList(userDetails, cursor, size));
+    }
+
+    /**
+     * 해시태그별 공개 블로그 목록 (피드와 같은 커서 방식)
+     */
+    @GetMapping("/tags/{tagName}")
+    public ResponseEntity<BlogFeedResponse> getBlogsByHashtag(
+            @PathVariable String tagName,
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(blogService.getBlogsByHashtag(userDetails, tagName, cursor, size));
+    }
+
+    /**
+     * 공개 블로그 제목/본문 검색 (관련도 순, 페이지 번호는 1부터)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<BlogSearchResponse> searchBlogs(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam String query,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(blogService.searchBlogs(userDetails, query, page, size));
+    }
+
+    /**
+     * 최근 많이 쓰인 해시태그
+     */
+    @GetMapping("/trending-tags")
+    public ResponseEntity<List<TrendingHashtagDto>> getTrendingHashtags(
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(trendingHashtagTracker.top(Math.min(Math.max(limit, 1), 50)));
     }
 
     @GetMapping("/{blogId}")
@@ -0,0 +1,8 @@
+package com.flowerguys.localpiece.domain.blog.dto;
+
+/**
+ * 조회자와 무관한 블로그 상세 응답과 접근 확인에 필요한 작성자 정보.
+ * base의 좋아요 여부/조각 저장 여부는 비어 있으며, 조회할 때마다 조회자 기준으로 덧씌웁니다.
+ */
+public record BlogDetailSnapshot(BlogResponse base, String ownerEmail) {
+}
@@ -0,0 +1,42 @@
+package com.flowerguys.localpiece.domain.blog.dto;
+
+import com.flowerguys.localpiece.global.common.ErrorCode;
+import com.flowerguys.localpiece.global.common.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 블로그 피드의 다음 페이지 시작 위치 (createdAt, id).
+ * 클라이언트에는 내용을 알 수 없는 문자열(Base64URL)로만 전달합니다.
+ */
+public record BlogFeedCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static BlogFeedCursor of(BlogSummary blog) {
+        return new BlogFeedCursor(blog.createdAt(), blog.id());
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BlogFeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("separator not found");
+            }
+            return new BlogFeedCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT, "잘못된 커서 값입니다.");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.flowerguys.localpiece.domain.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 블로그 피드 한 페이지. nextCursor가 null이면 마지막 페이지입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class BlogFeedResponse {
+
+    private List<BlogListResponseDto> blogs;
+    private String nextCursor;
+}
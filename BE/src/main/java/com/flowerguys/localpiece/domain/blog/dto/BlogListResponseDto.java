@@ -1,6 +1,5 @@
 package com.flowerguys.localpiece.domain.blog.dto;
 
-import com.flowerguys.localpiece.domain.blog.entity.Blog;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -19,16 +18,16 @@ public class BlogListResponseDto {
     private boolean isLikedByCurrentUser;
     private boolean isPrivate;
 
-    public BlogListResponseDto(Blog blog, boolean isLiked) {
-        this.id = blog.getId();
-        this.title = blog.getTitle();
-        this.author = blog.getUser().getNickname();
-        this.thumbnail = blog.getThumbnail();
-        this.createdAt = blog.getCreatedAt();
-        this.viewCount = blog.getViewCount();
-        this.likeCount = blog.getLikes().size();
-        this.commentCount = blog.getComments().size();
+    public BlogListResponseDto(BlogSummary summary, boolean isLiked) {
+        this.id = summary.id();
+        this.title = summary.title();
+        this.author = summary.author();
+        this.thumbnail = summary.thumbnail();
+        this.createdAt = summary.createdAt();
+        this.viewCount = summary.viewCount();
+        this.likeCount = summary.likeCount();
+        this.commentCount = summary.commentCount();
         this.isLikedByCurrentUser = isLiked;
-        this.isPrivate = blog.isPrivate();
+        this.isPrivate = summary.isPrivate();
     }
-}
\ No newline at end of file
+}
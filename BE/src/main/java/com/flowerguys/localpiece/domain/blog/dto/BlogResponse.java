@@ -34,6 +34,26 @@ public class BlogResponse {
         this(blog, false, Optional.empty()); 
     }
 
+    /**
+     * 캐시된 공통 응답(base)에 조회자별 좋아요/조각 저장 여부를 덧씌운 응답을 만듭니다.
+     */
+    public BlogResponse(BlogResponse base, boolean isLiked, Optional<Piece> pieceOptional) {
+        this.id = base.id;
+        this.title = base.title;
+        this.isPrivate = base.isPrivate;
+        this.viewCount = base.viewCount;
+        this.createdAt = base.createdAt;
+        this.modifiedAt = base.modifiedAt;
+        this.author = base.author;
+        this.contents = base.contents;
+        this.comments = base.comments;
+        this.likeCount = base.likeCount;
+        this.isLikedByCurrentUser = isLiked;
+        this.isSavedAsPiece = pieceOptional.isPresent();
+        this.pieceId = pieceOptional.map(Piece::getId).orElse(null);
+        this.hashtags = base.hashtags;
+    }
+
     public BlogResponse(Blog blog, boolean isLiked, Optional<Piece> pieceOptional) {
         this.id = blog.getId();
         this.title = blog.getTitle();
@@ -57,7 +77,7 @@ public class BlogResponse {
                 .map(CommentResponseDto::new)
                 .collect(Collectors.toList());
         
-        this.likeCount = blog.getLikes().size();
+        this.likeCount = blog.getLikeCount();
         this.isLikedByCurrentUser = isLiked;
         this.isSavedAsPiece = pieceOptional.isPresent();
         this.pieceId = pieceOptional.map(Piece::getId).orElse(null);
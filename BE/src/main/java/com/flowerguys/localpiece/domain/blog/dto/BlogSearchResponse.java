@@ -0,0 +1,18 @@
+package com.flowerguys.localpiece.domain.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 블로그 검색 결과 한 페이지 (관련도 순이라 커서 대신 페이지 번호 사용). hasNext가 false면 마지막 페이지입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class BlogSearchResponse {
+
+    private List<BlogListResponseDto> blogs;
+    private int page;
+    private boolean hasNext;
+}
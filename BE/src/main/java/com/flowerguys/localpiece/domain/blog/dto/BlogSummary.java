@@ -0,0 +1,19 @@
+package com.flowerguys.localpiece.domain.blog.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 블로그 목록용 읽기 모델. JPQL 생성자 표현식으로 필요한 컬럼만 바로 조회하므로
+ * Blog 엔티티를 만들거나 영속성 컨텍스트에 올리지 않습니다.
+ */
+public record BlogSummary(
+        Long id,
+        String title,
+        String author,
+        String thumbnail,
+        LocalDateTime createdAt,
+        int viewCount,
+        int likeCount,
+        int commentCount,
+        boolean isPrivate) {
+}
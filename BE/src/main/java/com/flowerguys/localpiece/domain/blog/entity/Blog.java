@@ -10,6 +10,7 @@ import java.util.HashSet;
 import java.util.Set;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -18,6 +19,10 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA를 위한 기본 생성자
 @AllArgsConstructor // 모든 필드를 포함하는 생성자 (Builder가 사용)
 @Builder // 클래스 레벨에 Builder 적용
+@Table(indexes = {
+    // 공개 피드 키셋 페이지네이션용 (is_deleted, is_private) 필터 후 (created_at, blog_id) 역순 조회
+    @Index(name = "idx_blog_feed", columnList = "is_deleted, is_private, created_at, blog_id")
+})
 public class Blog extends BaseTimeEntity {
 
     @Id
@@ -46,9 +51,25 @@ public class Blog extends BaseTimeEntity {
     @Builder.Default
     private int viewCount = 0;
 
+    // 목록 조회 시 likes/comments 컬렉션을 읽지 않도록 비정규화한 개수 (BlogRepository의 증감 쿼리로만 변경)
+    // 기존 행이 있는 테이블에도 NOT NULL 컬럼을 추가할 수 있도록 DB 기본값 0을 둠 (값은 db/migration/blog_counters.sql 또는 기동 시 보정으로 채움)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int likeCount = 0;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int commentCount = 0;
+
     @Setter
     private String thumbnail; 
 
+    // 검색용 텍스트 (제목 + TEXT 블록). pg_trgm GIN 인덱스(idx_blog_search_text_trgm)로 검색
+    @Column(columnDefinition = "text")
+    private String searchText;
+
     @OneToMany(mappedBy = "blog", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private Set<BlogHashtag> hashtags = new HashSet<>();
@@ -74,4 +95,25 @@ public class Blog extends BaseTimeEntity {
     public void delete() {
         this.isDeleted = true;
     }
+
+    /**
+     * 제목과 TEXT 블록으로 검색용 텍스트를 다시 만듭니다. 제목이나 본문을 바꾼 뒤 호출해야 합니다.
+     */
+    @PrePersist
+    public void refreshSearchText() {
+        this.searchText = buildSearchText(title, contents);
+    }
+
+    /**
+     * 검색용 텍스트 조합 규칙. 엔티티를 수정하지 않고 값만 계산해야 하는 백필에서도 같은 규칙을 씁니다.
+     */
+    public static String buildSearchText(String title, List<BlogContent> contents) {
+        StringBuilder builder = new StringBuilder(title != null ? title : "");
+        for (BlogContent content : contents) {
+            if (content.getContentType() == ContentType.TEXT && content.getContent() != null) {
+                builder.append('\n').append(content.getContent());
+            }
+        }
+        return builder.toString();
+    }
 }
\ No newline at end of file
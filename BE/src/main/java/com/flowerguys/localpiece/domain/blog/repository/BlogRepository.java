@@ -1,23 +1,87 @@
 package com.flowerguys.localpiece.domain.blog.repository;
 
+import com.flowerguys.localpiece.domain.blog.dto.BlogSummary;
 import com.flowerguys.localpiece.domain.blog.entity.Blog;
-import com.flowerguys.localpiece.domain.user.entity.User;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface BlogRepository extends JpaRepository<Blog, Long> {
-    
-    List<Blog> findAllByIsDeletedFalseAndIsPrivateFalseOrderByCreatedAtDesc();
 
-    List<Blog> findAllByUserEmailAndIsDeletedFalseOrderByCreatedAtDesc(String email);
+    String BLOG_SUMMARY_SELECT =
+            "SELECT new com.flowerguys.localpiece.domain.blog.dto.BlogSummary(" +
+            "b.id, b.title, u.nickname, b.thumbnail, b.createdAt, b.viewCount, b.likeCount, b.commentCount, b.isPrivate) " +
+            "FROM Blog b JOIN b.user u ";
+
+    // 공개 피드 첫 페이지 (idx_blog_feed 인덱스 순서대로 읽음)
+    @Query(BLOG_SUMMARY_SELECT +
+           "WHERE b.isDeleted = false AND b.isPrivate = false " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BlogSummary> findPublicFeed(Limit limit);
+
+    // 공개 피드 다음 페이지: 커서(createdAt, id) 이후부터 읽으므로 OFFSET 없이 페이지 깊이와 무관하게 일정한 비용
+    @Query(BLOG_SUMMARY_SELECT +
+           "WHERE b.isDeleted = false AND b.isPrivate = false " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BlogSummary> findPublicFeedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    // 해시태그별 공개 블로그 (idx_blog_hashtag_hashtag_blog로 태그의 블로그만 찾은 뒤 정렬)
+    @Query(BLOG_SUMMARY_SELECT +
+           "JOIN BlogHashtag bh ON bh.blog = b " +
+           "WHERE bh.hashtag.id = :hashtagId AND b.isDeleted = false AND b.isPrivate = false " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BlogSummary> findPublicByHashtag(@Param("hashtagId") Long hashtagId, Limit limit);
+
+    @Query(BLOG_SUMMARY_SELECT +
+           "JOIN BlogHashtag bh ON bh.blog = b " +
+           "WHERE bh.hashtag.id = :hashtagId AND b.isDeleted = false AND b.isPrivate = false " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BlogSummary> findPublicByHashtagAfter(@Param("hashtagId") Long hashtagId,
+                                               @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                               Limit limit);
 
-    List<Blog> findAllByUserAndIsDeletedFalseOrderByCreatedAtDesc(User user);
+    // 마이페이지 내 블로그 목록 (비공개 포함)
+    @Query(BLOG_SUMMARY_SELECT +
+           "WHERE u.id = :userId AND b.isDeleted = false " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BlogSummary> findSummariesByUserId(@Param("userId") Long userId);
+
+    // 검색 결과(id 목록)를 목록 항목으로 변환. 순서는 호출하는 쪽에서 검색 순위대로 맞춤
+    @Query(BLOG_SUMMARY_SELECT + "WHERE b.id IN :ids")
+    List<BlogSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 제목/본문 검색 (pg_trgm). ':query <% search_text'는 검색어와 가장 비슷한 부분 문자열의 유사도가
+     * pg_trgm.word_similarity_threshold 이상인 행이며, idx_blog_search_text_trgm GIN 인덱스로 후보를 찾습니다.
+     * 제목에 그대로 포함된 글을 먼저, 그다음 유사도 순으로 정렬합니다. titlePattern은 이스케이프된 ILIKE 패턴입니다.
+     */
+    @Query(value = "SELECT b.blog_id FROM blog b " +
+                   "WHERE b.is_deleted = false AND b.is_private = false AND :query <% b.search_text " +
+                   "ORDER BY (b.blog_title ILIKE :titlePattern) DESC, " +
+                   "word_similarity(:query, b.search_text) DESC, b.blog_id DESC " +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<Long> searchPublicBlogIds(@Param("query") String query, @Param("titlePattern") String titlePattern,
+                                   @Param("limit") int limit, @Param("offset") int offset);
+
+    // 검색용 텍스트가 아직 없는 블로그 (컬럼 추가 전 데이터 백필용)
+    @Query("SELECT b.id FROM Blog b WHERE b.searchText IS NULL ORDER BY b.id")
+    List<Long> findIdsWithoutSearchText(Limit limit);
+
+    @Query("SELECT DISTINCT b FROM Blog b LEFT JOIN FETCH b.contents WHERE b.id IN :ids")
+    List<Blog> findAllWithContentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    List<Blog> findAllByUserEmailAndIsDeletedFalseOrderByCreatedAtDesc(String email);
 
     // ✨ 1. 이 메소드는 수정/삭제 로직을 위해 그대로 유지합니다.
     @Query("SELECT b FROM Blog b LEFT JOIN FETCH b.contents WHERE b.id = :blogId AND b.isDeleted = false")
@@ -32,9 +96,51 @@ public interface BlogRepository extends JpaRepository<Blog, Long> {
            "WHERE b.id = :blogId AND b.isDeleted = false")
     Optional<Blog> findWithDetailsById(@Param("blogId") Long blogId);
 
-    @Modifying 
-    @Query("UPDATE Blog b SET b.viewCount = b.viewCount + 1 WHERE b.id = :blogId")
-    void updateViewCount(@Param("blogId") Long blogId);
+    // 좋아요/댓글 개수는 읽고-쓰기 대신 DB에서 원자적으로 증감
+    @Modifying
+    @Query("UPDATE Blog b SET b.likeCount = b.likeCount + 1 WHERE b.id = :blogId")
+    int incrementLikeCount(@Param("blogId") Long blogId);
+
+    @Modifying
+    @Query("UPDATE Blog b SET b.likeCount = b.likeCount - 1 WHERE b.id = :blogId AND b.likeCount > 0")
+    int decrementLikeCount(@Param("blogId") Long blogId);
+
+    @Modifying
+    @Query("UPDATE Blog b SET b.commentCount = b.commentCount + 1 WHERE b.id = :blogId")
+    int incrementCommentCount(@Param("blogId") Long blogId);
+
+    @Modifying
+    @Query("UPDATE Blog b SET b.commentCount = b.commentCount - 1 WHERE b.id = :blogId AND b.commentCount > 0")
+    int decrementCommentCount(@Param("blogId") Long blogId);
+
+    /**
+     * 개수가 실제 행 수와 다른 블로그를 찾아 행 잠금(FOR UPDATE)을 겁니다.
+     * 잠근 뒤 다시 세면, 진행 중인 좋아요/댓글 트랜잭션의 증감과 엇갈려 값을 덮어쓰지 않습니다.
+     */
+    @Query(value = "SELECT b.blog_id FROM blog b " +
+                   "WHERE b.like_count <> (SELECT COUNT(*) FROM blog_like l WHERE l.blog_id = b.blog_id) " +
+                   "ORDER BY b.blog_id LIMIT :limit FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockBlogsWithDriftedLikeCount(@Param("limit") int limit);
+
+    @Query(value = "SELECT b.blog_id FROM blog b " +
+                   "WHERE b.comment_count <> (SELECT COUNT(*) FROM comment c WHERE c.blog_id = b.blog_id) " +
+                   "ORDER BY b.blog_id LIMIT :limit FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockBlogsWithDriftedCommentCount(@Param("limit") int limit);
+
+    // 위에서 잠근 블로그의 개수를 다시 계산 (같은 트랜잭션에서 호출해야 함)
+    @Modifying
+    @Query("UPDATE Blog b SET b.likeCount = (SELECT COUNT(l) FROM BlogLike l WHERE l.blog = b) WHERE b.id IN :blogIds")
+    int recountLikeCounts(@Param("blogIds") Collection<Long> blogIds);
+
+    @Modifying
+    @Query("UPDATE Blog b SET b.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.blog = b) WHERE b.id IN :blogIds")
+    int recountCommentCounts(@Param("blogIds") Collection<Long> blogIds);
+
+    // 수정 전 이미지 업로드에 앞서 작성자만 가볍게 확인
+    @Query("SELECT u.email FROM Blog b JOIN b.user u WHERE b.id = :blogId AND b.isDeleted = false")
+    Optional<String> findActiveOwnerEmailById(@Param("blogId") Long blogId);
 
     // ✨ 삭제되지 않은 블로그만 ID로 조회하는 메소드 추가
     @Query("SELECT b FROM Blog b WHERE b.id = :blogId AND b.isDeleted = false")
@@ -0,0 +1,8 @@
+package com.flowerguys.localpiece.domain.blog.service;
+
+/**
+ * 블로그 상세 응답에 들어가는 내용(본문, 댓글, 좋아요 수, 해시태그 등)이 바뀌었음을 알리는 이벤트.
+ * 트랜잭션이 커밋된 뒤 BlogDetailCache가 받아 해당 블로그의 캐시를 비웁니다.
+ */
+public record BlogChangedEvent(Long blogId) {
+}
@@ -0,0 +1,78 @@
+package com.flowerguys.localpiece.domain.blog.service;
+
+import com.flowerguys.localpiece.domain.blog.repository.BlogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Blog의 비정규화된 좋아요/댓글 개수를 실제 행 수와 맞춥니다.
+ * 평소에는 LikeService/CommentService가 원자적으로 증감하지만, 직접 DB 수정이나 컬럼 추가 직후처럼
+ * 어긋난 값이 생길 수 있어 기동 시와 주기적으로 보정합니다. (컬럼 추가 직후의 기본값 0도 기동 시 보정으로 채워짐)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlogCounterReconciliationService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final BlogRepository blogRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcileQuietly();
+    }
+
+    @Scheduled(cron = "${blog.counters.reconcile-cron:0 0 5 * * *}")
+    public void scheduledReconcile() {
+        reconcileQuietly();
+    }
+
+    public void reconcile() {
+        int likeFixed = reconcileInBatches(blogRepository::lockBlogsWithDriftedLikeCount, blogRepository::recountLikeCounts);
+        int commentFixed = reconcileInBatches(blogRepository::lockBlogsWithDriftedCommentCount, blogRepository::recountCommentCounts);
+        if (likeFixed > 0 || commentFixed > 0) {
+            log.warn("블로그 개수 보정 완료. 좋아요: {}건, 댓글: {}건", likeFixed, commentFixed);
+        } else {
+            log.info("블로그 좋아요/댓글 개수 불일치 없음");
+        }
+    }
+
+    /**
+     * 어긋난 블로그를 배치 단위로 잠그고 다시 셉니다. 배치마다 커밋해 좋아요/댓글 요청이 오래 기다리지 않도록 합니다.
+     */
+    private int reconcileInBatches(IntFunction<List<Long>> lockDrifted, Function<Collection<Long>, Integer> recount) {
+        int fixed = 0;
+        while (true) {
+            int batchFixed = transactionTemplate.execute(status -> {
+                List<Long> blogIds = lockDrifted.apply(BATCH_SIZE);
+                return blogIds.isEmpty() ? 0 : recount.apply(blogIds);
+            });
+            fixed += batchFixed;
+            if (batchFixed < BATCH_SIZE) {
+                return fixed;
+            }
+        }
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("블로그 개수 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.flowerguys.localpiece.domain.blog.service;
+
+import com.flowerguys.localpiece.domain.blog.dto.BlogDetailSnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 블로그 상세 응답 중 조회자와 무관한 부분을 블로그 id별로 보관하는 캐시.
+ * 글 수정/삭제, 댓글 작성/수정/삭제, 좋아요 토글이 커밋되면 BlogChangedEvent로 해당 항목을 비웁니다.
+ * 조회수는 이벤트 없이 바뀌므로 ttl만큼 늦게 반영될 수 있습니다.
+ */
+@Component
+public class BlogDetailCache {
+
+    private final Cache<Long, BlogDetailSnapshot> cache;
+    // 진행 중인 조회(DB 로드)만 블로그별로 기록. 조회 중에 변경이 커밋되면 티켓을 무효화해 그 결과는 캐시에 넣지 않음
+    // 조회가 끝나면 항목을 지우므로 크기는 동시에 진행 중인 조회 수로 제한됨
+    private final Map<Long, LoadTicket> pendingLoads = new ConcurrentHashMap<>();
+
+    public BlogDetailCache(@Value("${blog.detail-cache.ttl:60s}") Duration ttl,
+                           @Value("${blog.detail-cache.maximum-size:1000}") long maximumSize,
+                           MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "blogDetail");
+    }
+
+    public BlogDetailSnapshot get(Long blogId, Function<Long, BlogDetailSnapshot> loader) {
+        BlogDetailSnapshot cached = cache.getIfPresent(blogId);
+        if (cached != null) {
+            return cached;
+        }
+
+        LoadTicket ticket = pendingLoads.compute(blogId, (id, current) ->
+                current == null ? new LoadTicket() : current.retain());
+        try {
+            BlogDetailSnapshot loaded = loader.apply(blogId);
+            // 티켓 확인과 저장을 evict와 같은 키 잠금 안에서 수행
+            cache.asMap().compute(blogId, (id, current) -> ticket.valid ? loaded : current);
+            return loaded;
+        } finally {
+            pendingLoads.computeIfPresent(blogId, (id, current) ->
+                    current == ticket && current.release() == 0 ? null : current);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogChanged(BlogChangedEvent event) {
+        evict(event.blogId());
+    }
+
+    public void evict(Long blogId) {
+        cache.asMap().compute(blogId, (id, current) -> {
+            LoadTicket ticket = pendingLoads.remove(id);
+            if (ticket != null) {
+                ticket.valid = false;
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 같은 블로그를 동시에 조회하는 요청들이 공유하는 조회 티켓 (참조 수는 pendingLoads의 키 잠금 안에서만 변경)
+     */
+    private static final class LoadTicket {
+        private volatile boolean valid = true;
+        private int references = 1;
+
+        private LoadTicket retain() {
+            references++;
+            return this;
+        }
+
+        private int release() {
+            return --references;
+        }
+    }
+}
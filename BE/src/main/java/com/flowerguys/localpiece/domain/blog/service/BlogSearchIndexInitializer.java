@@ -0,0 +1,78 @@
+package com.flowerguys.localpiece.domain.blog.service;
+
+import com.flowerguys.localpiece.domain.blog.entity.Blog;
+import com.flowerguys.localpiece.domain.blog.repository.BlogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 블로그 검색에 필요한 pg_trgm 확장과 search_text GIN 인덱스를 만들고,
+ * search_text 컬럼이 생기기 전에 작성된 블로그의 검색용 텍스트를 채웁니다.
+ * ddl-auto는 확장/GIN 인덱스를 만들지 못하므로 기동 시 한 번 확인합니다. (IF NOT EXISTS라 반복 실행해도 안전)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlogSearchIndexInitializer {
+
+    private static final int BACKFILL_BATCH_SIZE = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlogRepository blogRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_blog_search_text_trgm " +
+                    "ON blog USING gin (search_text gin_trgm_ops)");
+        } catch (DataAccessException e) {
+            // 확장 생성 권한이 없는 경우 등. 이미 DBA가 만들어 두었다면 검색은 정상 동작
+            log.warn("블로그 검색 인덱스 생성 실패 (pg_trgm 확장 확인 필요): {}", e.getMessage());
+        }
+
+        try {
+            int filled = backfill();
+            if (filled > 0) {
+                log.info("블로그 검색용 텍스트 백필 완료: {}건", filled);
+            }
+        } catch (Exception e) {
+            log.error("블로그 검색용 텍스트 백필 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private int backfill() {
+        int total = 0;
+        while (true) {
+            // 배치마다 커밋해 긴 트랜잭션과 영속성 컨텍스트 누적을 피함
+            int filled = transactionTemplate.execute(status -> {
+                List<Long> ids = blogRepository.findIdsWithoutSearchText(Limit.of(BACKFILL_BATCH_SIZE));
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                // 엔티티를 수정하면 감사 리스너가 modified_at까지 갱신하므로, 값만 계산해 SQL로 직접 씀
+                List<Object[]> updates = blogRepository.findAllWithContentsByIdIn(ids).stream()
+                        .map(blog -> new Object[]{Blog.buildSearchText(blog.getTitle(), blog.getContents()), blog.getId()})
+                        .toList();
+                jdbcTemplate.batchUpdate("UPDATE blog SET search_text = ? WHERE blog_id = ?", updates);
+                return ids.size();
+            });
+            if (filled == 0) {
+                return total;
+            }
+            total += filled;
+        }
+    }
+}
@@ -7,30 +7,44 @@ import com.flowerguys.localpiece.domain.blog.entity.ContentType;
 import com.flowerguys.localpiece.domain.blog.repository.BlogContentRepository;
 import com.flowerguys.localpiece.domain.blog.repository.BlogRepository;
 import com.flowerguys.localpiece.domain.hashtag.repository.BlogHashtagRepository;
-import com.flowerguys.localpiece.domain.hashtag.repository.HashtagRepository;
+import com.flowerguys.localpiece.domain.hashtag.service.HashtagService;
+import com.flowerguys.localpiece.domain.hashtag.service.HashtagUsagesChangedEvent;
+import com.flowerguys.localpiece.domain.hashtag.dto.HashtagUsage;
+import com.flowerguys.localpiece.domain.hashtag.entity.Hashtag;
+import com.flowerguys.localpiece.domain.image.service.ImageDeletionOutbox;
 import com.flowerguys.localpiece.domain.image.service.ImageUploadService;
 import com.flowerguys.localpiece.domain.user.entity.User;
 import com.flowerguys.localpiece.domain.user.repository.UserRepository;
 import com.flowerguys.localpiece.global.common.ErrorCode;
 import com.flowerguys.localpiece.global.common.exception.BusinessException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import com.flowerguys.localpiece.domain.like.repository.BlogLikeRepository;
+import com.flowerguys.localpiece.domain.like.service.LikeStatusService;
 import com.flowerguys.localpiece.domain.piece.entity.Piece;
 import com.flowerguys.localpiece.domain.piece.repository.PieceRepository;
 import com.flowerguys.localpiece.domain.hashtag.entity.BlogHashtag;
-import com.flowerguys.localpiece.domain.hashtag.entity.Hashtag;
 import org.springframework.util.StringUtils;
 import com.flowerguys.localpiece.domain.piece.entity.Piece;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Queue;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.Collections;
 import java.util.Set;
@@ -42,56 +56,189 @@ public class BlogService {
     private final BlogRepository blogRepository;
     private final UserRepository userRepository;
     private final ImageUploadService imageUploadService;
+    private final ImageDeletionOutbox imageDeletionOutbox;
     private final BlogLikeRepository blogLikeRepository;
-    private final HashtagRepository hashtagRepository;
+    private final HashtagService hashtagService;
+    private final BlogHashtagRepository blogHashtagRepository;
     private final PieceRepository pieceRepository;
+    private final BlogViewCounter blogViewCounter;
+    private final LikeStatusService likeStatusService;
+    private final BlogDetailCache blogDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    // 이미지 업로드를 트랜잭션 밖에서 하기 위해 메서드 단위 @Transactional 대신 사용
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+    // 관련도 정렬은 OFFSET 방식이라 깊은 페이지일수록 비싸므로 페이지 수를 제한
+    private static final int MAX_SEARCH_PAGE = 50;
+
+    @PostConstruct
+    void initTransactionTemplates() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
 
-    @Transactional
+    /**
+     * 이미지는 트랜잭션 밖에서 먼저 병렬로 업로드하고, 저장 트랜잭션이 실패하면 올린 이미지를 지웁니다.
+     */
     public BlogResponse createBlog(String userEmail, BlogCreateRequest request, List<MultipartFile> imageFiles) {
-        User user = findUser(userEmail);
+        List<String> uploadedUrls = uploadNewImages(request.getContents(), imageFiles);
+        try {
+            return transactionTemplate.execute(status -> {
+                User user = findUser(userEmail);
+
+                Blog blog = Blog.builder()
+                        .user(user)
+                        .title(request.getTitle())
+                        .isPrivate(request.isPrivate())
+                        .build();
+
+                List<BlogContent> contents = processBlogContents(blog, request.getContents(), new LinkedList<>(uploadedUrls));
+
+                contents.forEach(content -> content.setBlog(blog));
+                blog.setContents(contents);
+
+                if (StringUtils.hasText(request.getThumbnail())) {
+                    blog.setThumbnail(request.getThumbnail());
+                } else {
+                    contents.stream()
+                            .filter(bc -> bc.getContentType() == ContentType.IMAGE)
+                            .findFirst()
+                            .ifPresent(bc -> blog.setThumbnail(bc.getContent()));
+                }
 
-        Blog blog = Blog.builder()
-                .user(user)
-                .title(request.getTitle())
-                .isPrivate(request.isPrivate())
-                .build();
+                List<HashtagUsage> usages = request.getHashtags() != null
+                        ? manageHashtags(blog, request.getHashtags(), List.of())
+                        : List.of();
+
+                Blog savedBlog = blogRepository.save(blog);
+                publishHashtagUsageChanges(List.of(), savedBlog.isPrivate() ? List.of() : usages);
+                return new BlogResponse(savedBlog);
+            });
+        } catch (RuntimeException e) {
+            uploadedUrls.forEach(imageUploadService::deleteImageQuietly);
+            throw e;
+        }
+    }
 
-        Queue<MultipartFile> imageFilesQueue = (imageFiles != null) ? new LinkedList<>(imageFiles) : new LinkedList<>();
-        List<BlogContent> contents = processBlogContents(blog, request.getContents(), imageFilesQueue);
+    /**
+     * 공개 블로그 피드를 (createdAt, id) 키셋 기준으로 한 페이지씩 조회합니다.
+     * cursor가 없으면 첫 페이지이며, 응답의 nextCursor를 다음 요청에 그대로 넘기면 됩니다.
+     */
+    @Transactional(readOnly = true)
+    public BlogFeedResponse getBlogList(UserDetails userDetails, String cursor, int size) {
+        checkFeedPageSize(size);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        Limit limit = Limit.of(size + 1);
+        List<BlogSummary> blogs;
+        if (StringUtils.hasText(cursor)) {
+            BlogFeedCursor after = BlogFeedCursor.decode(cursor);
+            blogs = blogRepository.findPublicFeedAfter(after.createdAt(), after.id(), limit);
+        } else {
+            blogs = blogRepository.findPublicFeed(limit);
+        }
+        return toFeedPage(userDetails, blogs, size);
+    }
 
-        contents.forEach(content -> content.setBlog(blog));
-        blog.setContents(contents);
+    /**
+     * 해시태그가 붙은 공개 블로그를 피드와 같은 키셋 방식으로 조회합니다. 없는 태그면 빈 페이지입니다.
+     */
+    @Transactional(readOnly = true)
+    public BlogFeedResponse getBlogsByHashtag(UserDetails userDetails, String tagName, String cursor, int size) {
+        checkFeedPageSize(size);
 
-        if (StringUtils.hasText(request.getThumbnail())) {
-            blog.setThumbnail(request.getThumbnail());
-        } else {
-            contents.stream()
-                    .filter(bc -> bc.getContentType() == ContentType.IMAGE)
-                    .findFirst()
-                    .ifPresent(bc -> blog.setThumbnail(bc.getContent()));
+        Optional<Long> hashtagId = hashtagService.findId(tagName);
+        if (hashtagId.isEmpty()) {
+            return new BlogFeedResponse(List.of(), null);
         }
 
-         if (request.getHashtags() != null) {
-            manageHashtags(blog, request.getHashtags());
+        Limit limit = Limit.of(size + 1);
+        List<BlogSummary> blogs;
+        if (StringUtils.hasText(cursor)) {
+            BlogFeedCursor after = BlogFeedCursor.decode(cursor);
+            blogs = blogRepository.findPublicByHashtagAfter(hashtagId.get(), after.createdAt(), after.id(), limit);
+        } else {
+            blogs = blogRepository.findPublicByHashtag(hashtagId.get(), limit);
         }
-   
-        Blog savedBlog = blogRepository.save(blog);
-        return new BlogResponse(savedBlog);
+        return toFeedPage(userDetails, blogs, size);
     }
 
+    /**
+     * 공개 블로그를 제목과 TEXT 블록에서 검색합니다. 띄어쓰기/조사와 무관하게 찾도록 trigram 유사도로 매칭하며,
+     * 제목에 검색어가 그대로 들어간 글을 먼저, 그다음 유사도 순으로 보여줍니다.
+     */
     @Transactional(readOnly = true)
-    public List<BlogListResponseDto> getBlogList(UserDetails userDetails) {
-        
-        Set<Long> likedBlogIds = Collections.emptySet();
+    public BlogSearchResponse searchBlogs(UserDetails userDetails, String query, int page, int size) {
+        checkFeedPageSize(size);
+        String keyword = query == null ? "" : query.strip();
+        if (keyword.isEmpty() || keyword.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT, "검색어는 1자 이상 " + MAX_SEARCH_QUERY_LENGTH + "자 이하여야 합니다.");
+        }
+        if (page < 1 || page > MAX_SEARCH_PAGE) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT, "page는 1 이상 " + MAX_SEARCH_PAGE + " 이하여야 합니다.");
+        }
 
-        // 로그인한 사용자라면, 좋아요 누른 블로그 ID 목록을 미리 조회
-        if (userDetails != null) {
-            User user = findUser(userDetails.getUsername());
-            likedBlogIds = blogLikeRepository.findLikedBlogIdsByUserId(user.getId());
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<Long> ids = blogRepository.searchPublicBlogIds(
+                keyword, "%" + escapeLikePattern(keyword) + "%", size + 1, (page - 1) * size);
+        boolean hasNext = ids.size() > size;
+        if (hasNext) {
+            ids = ids.subList(0, size);
         }
+        if (ids.isEmpty()) {
+            return new BlogSearchResponse(List.of(), page, false);
+        }
+
+        // IN 조회는 순서를 보장하지 않으므로 검색 순위대로 다시 정렬
+        Map<Long, BlogSummary> summaries = blogRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(BlogSummary::id, Function.identity()));
+        List<BlogSummary> blogs = ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new BlogSearchResponse(toListItems(userDetails, blogs), page, hasNext);
+    }
+
+    private static String escapeLikePattern(String keyword) {
+        // PostgreSQL LIKE의 기본 이스케이프 문자는 '\'
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 
-        // DB에서 블로그 목록 조회
-        List<Blog> blogs = blogRepository.findAllByIsDeletedFalseAndIsPrivateFalseOrderByCreatedAtDesc();
+    private void checkFeedPageSize(int size) {
+        if (size < 1 || size > MAX_FEED_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT, "size는 1 이상 " + MAX_FEED_PAGE_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    /**
+     * size + 1건으로 조회한 결과를 한 페이지로 자르고 다음 커서와 좋아요 여부를 채웁니다.
+     */
+    private BlogFeedResponse toFeedPage(UserDetails userDetails, List<BlogSummary> blogs, int size) {
+        String nextCursor = null;
+        if (blogs.size() > size) {
+            blogs = blogs.subList(0, size);
+            nextCursor = BlogFeedCursor.of(blogs.get(size - 1)).encode();
+        }
+        return new BlogFeedResponse(toListItems(userDetails, blogs), nextCursor);
+    }
+
+    /**
+     * 목록 항목으로 변환하면서, 로그인한 사용자라면 좋아요 여부를 한 번에 채웁니다.
+     */
+    private List<BlogListResponseDto> toListItems(UserDetails userDetails, List<BlogSummary> blogs) {
+        // 로그인한 사용자라면, 이번 페이지의 블로그 중 좋아요 누른 것만 확인
+        Set<Long> likedBlogIds = Collections.emptySet();
+        if (userDetails != null && !blogs.isEmpty()) {
+            User user = findUser(userDetails.getUsername());
+            likedBlogIds = likeStatusService.findLikedBlogIds(
+                    user.getId(), blogs.stream().map(BlogSummary::id).toList());
+        }
 
         // final로 선언하여 람다 내부에서 사용할 수 있도록 함
         final Set<Long> finalLikedBlogIds = likedBlogIds;
@@ -99,17 +246,20 @@ public class BlogService {
         // DTO로 변환
         return blogs.stream()
                 .map(blog -> {
-                    boolean isLiked = finalLikedBlogIds.contains(blog.getId());
+                    boolean isLiked = finalLikedBlogIds.contains(blog.id());
                     return new BlogListResponseDto(blog, isLiked);
                 })
                 .collect(Collectors.toList());
     }
 
-    @Transactional
+    /**
+     * 조회자와 무관한 부분은 BlogDetailCache에서 가져오고, 좋아요/조각 저장 여부만 조회자 기준으로 확인합니다.
+     */
     public BlogResponse getBlogAndIncreaseViewCount(Long blogId, UserDetails userDetails) {
-        Blog blog = findBlogWithContents(blogId); // findById로 변경해도 무방
-        checkBlogAccess(blog, userDetails);
-        blogRepository.updateViewCount(blogId);
+        BlogDetailSnapshot snapshot = blogDetailCache.get(blogId, this::loadDetailSnapshot);
+        checkBlogAccess(snapshot, userDetails);
+        // 조회수는 메모리에 모았다가 주기적으로 일괄 반영 (조회 요청에서는 쓰기 없음)
+        blogViewCounter.increment(blogId);
 
         // ✨ 좋아요 여부 확인 로직 추가
         boolean isLiked = false;
@@ -121,15 +271,46 @@ public class BlogService {
             pieceOptional = pieceRepository.findByUserAndBlogId(user, blogId);
         }
 
-        return new BlogResponse(blog, isLiked, pieceOptional); // 수정된 생성자로 DTO 생성
+        return new BlogResponse(snapshot.base(), isLiked, pieceOptional);
     }
 
-    @Transactional
+    private BlogDetailSnapshot loadDetailSnapshot(Long blogId) {
+        return readOnlyTransactionTemplate.execute(status -> {
+            Blog blog = findBlogWithContents(blogId);
+            return new BlogDetailSnapshot(new BlogResponse(blog), blog.getUser().getEmail());
+        });
+    }
+
+    /**
+     * 새 이미지는 트랜잭션 밖에서 먼저 병렬로 업로드하고, 수정 트랜잭션이 실패하면 올린 이미지를 지웁니다.
+     * 업로드 전에 글 존재 여부와 작성자를 먼저 확인해, 남의 글로 업로드 슬롯을 차지하지 못하게 합니다.
+     */
     public BlogResponse updateBlog(Long blogId, String userEmail, BlogUpdateRequest request, List<MultipartFile> imageFiles) {
+        String ownerEmail = blogRepository.findActiveOwnerEmailById(blogId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BLOG_NOT_FOUND));
+        if (!ownerEmail.equals(userEmail)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+
+        List<String> uploadedUrls = uploadNewImages(request.getContents(), imageFiles);
+        try {
+            return transactionTemplate.execute(status ->
+                    applyUpdate(blogId, userEmail, request, uploadedUrls));
+        } catch (RuntimeException e) {
+            uploadedUrls.forEach(imageUploadService::deleteImageQuietly);
+            throw e;
+        }
+    }
+
+    private BlogResponse applyUpdate(Long blogId, String userEmail, BlogUpdateRequest request, List<String> uploadedUrls) {
         User user = findUser(userEmail);
         Blog blog = findBlogWithContents(blogId);
         checkOwnership(blog, user);
 
+        // 인기 태그 집계 차감/추가를 위해 변경 전 공개 여부와 태그(붙은 시각 포함)를 기억
+        boolean wasPublic = !blog.isPrivate();
+        List<HashtagUsage> previousUsages = blogHashtagRepository.findUsagesByBlogId(blogId);
+
         blog.update(request.getTitle(), request.getIsPrivate());
 
         List<String> newImageUrls = request.getContents().stream()
@@ -141,20 +322,20 @@ public class BlogService {
                 .filter(c -> c.getContentType() == ContentType.IMAGE)
                 .map(BlogContent::getContent)
                 .filter(oldUrl -> !newImageUrls.contains(oldUrl))
-                .forEach(imageUploadService::deleteImage);
-
-        Queue<MultipartFile> imageFilesQueue = (imageFiles != null) ? new LinkedList<>(imageFiles) : new LinkedList<>();
+                .forEach(imageDeletionOutbox::enqueue);
 
         // 1. 기존 contents 컬렉션을 비웁니다. (orphanRemoval=true에 의해 DB에서도 삭제됨)
         blog.getContents().clear();
 
         // 2. 새로운 BlogContent 리스트를 만듭니다. (이때 blog와의 연관관계가 설정됩니다)
-        List<BlogContent> newContents = processBlogContents(blog, request.getContents(), imageFilesQueue);
+        List<BlogContent> newContents = processBlogContents(blog, request.getContents(), new LinkedList<>(uploadedUrls));
 
         // 3. 비워진 기존 컬렉션에 새로운 내용들을 모두 추가합니다.
         blog.getContents().addAll(newContents);
+        blog.refreshSearchText();
 
-        manageHashtags(blog, request.getHashtags());
+        List<HashtagUsage> currentUsages = manageHashtags(blog, request.getHashtags(), previousUsages);
+        publishHashtagUsageChanges(wasPublic ? previousUsages : List.of(), blog.isPrivate() ? List.of() : currentUsages);
 
         if (StringUtils.hasText(request.getThumbnail())) {
             blog.setThumbnail(request.getThumbnail());
@@ -168,6 +349,7 @@ public class BlogService {
         
         boolean isLiked = blogLikeRepository.existsByUserIdAndBlogId(user.getId(), blogId);
         Optional<Piece> pieceOptional = pieceRepository.findByUserAndBlogId(user, blogId);
+        eventPublisher.publishEvent(new BlogChangedEvent(blogId));
         return new BlogResponse(blog, isLiked, pieceOptional);
     }
 
@@ -180,14 +362,35 @@ public class BlogService {
         blog.getContents().stream()
                 .filter(c -> c.getContentType() == ContentType.IMAGE)
                 .map(BlogContent::getContent)
-                .forEach(imageUploadService::deleteImage);
+                .forEach(imageDeletionOutbox::enqueue);
 
+        if (!blog.isPrivate()) {
+            publishHashtagUsageChanges(blogHashtagRepository.findUsagesByBlogId(blogId), List.of());
+        }
         blog.delete();
+        eventPublisher.publishEvent(new BlogChangedEvent(blogId));
     }
     
     // --- Private Helper Methods ---
 
-    private List<BlogContent> processBlogContents(Blog blog, List<BlogContentDto> contentDtos, Queue<MultipartFile> imageFilesQueue) {
+    /**
+     * 새로 올릴 이미지 블록(URL이 아닌 IMAGE 블록) 수만큼 파일을 요청 순서대로 병렬 업로드합니다.
+     */
+    private List<String> uploadNewImages(List<BlogContentDto> contentDtos, List<MultipartFile> imageFiles) {
+        long newImageCount = contentDtos.stream()
+                .filter(dto -> dto.getContentType() == ContentType.IMAGE && !dto.getContent().startsWith("http"))
+                .count();
+        if (newImageCount == 0) {
+            return List.of();
+        }
+        List<MultipartFile> files = (imageFiles != null) ? imageFiles : List.of();
+        if (files.size() < newImageCount) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "요청된 콘텐츠 수에 비해 이미지 파일이 부족합니다.");
+        }
+        return imageUploadService.uploadImages(files.subList(0, (int) newImageCount));
+    }
+
+    private List<BlogContent> processBlogContents(Blog blog, List<BlogContentDto> contentDtos, Queue<String> uploadedUrlsQueue) {
     return contentDtos.stream().map(dto -> {
         String contentValue;
         if (dto.getContentType() == ContentType.IMAGE) {
@@ -195,12 +398,8 @@ public class BlogService {
             if (dto.getContent().startsWith("http")) {
                 contentValue = dto.getContent();
             } else {
-                // 파일 이름으로 찾는 대신, 큐에서 파일을 하나 꺼냄
-                if (imageFilesQueue.isEmpty()) {
-                    throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "요청된 콘텐츠 수에 비해 이미지 파일이 부족합니다.");
-                }
-                MultipartFile imageFile = imageFilesQueue.poll();
-                contentValue = imageUploadService.uploadImage(imageFile);
+                // 미리 업로드해 둔 URL을 블록 순서대로 하나씩 꺼냄
+                contentValue = uploadedUrlsQueue.poll();
             }
         } else {
             contentValue = dto.getContent();
@@ -230,40 +429,68 @@ public class BlogService {
         }
     }
 
-    private void checkBlogAccess(Blog blog, UserDetails userDetails) {
-        if (blog.isDeleted()) {
-            throw new BusinessException(ErrorCode.BLOG_NOT_FOUND);
-        }
-        if (blog.isPrivate()) {
+    private void checkBlogAccess(BlogDetailSnapshot snapshot, UserDetails userDetails) {
+        // 삭제된 블로그는 스냅샷을 만들 때 BLOG_NOT_FOUND로 걸러짐
+        if (snapshot.base().isPrivate()) {
             String loggedInUserEmail = (userDetails != null) ? userDetails.getUsername() : "";
-            if (!blog.getUser().getEmail().equals(loggedInUserEmail)) {
+            if (!snapshot.ownerEmail().equals(loggedInUserEmail)) {
                 throw new BusinessException(ErrorCode.ACCESS_DENIED);
             }
         }
     }
 
-    private void manageHashtags(Blog blog, List<String> tagNameList) {
-        // 기존 해시태그 연결 모두 삭제
-        blog.getHashtags().clear();
-
-        if (tagNameList == null || tagNameList.isEmpty()) {
-            return;
-        }
-
-        for (String tagName : tagNameList) {
-            // 1. 해시태그 이름으로 DB에서 조회
-            Hashtag hashtag = hashtagRepository.findByName(tagName)
-                    // 2. 없으면 새로 생성하여 저장
-                    .orElseGet(() -> hashtagRepository.save(Hashtag.builder().name(tagName).build()));
-
-            // 3. Blog와 Hashtag를 연결하는 BlogHashtag 생성
-            BlogHashtag blogHashtag = BlogHashtag.builder()
+    /**
+     * 요청한 태그 목록에 맞춰 블로그의 태그 연결을 바꾸고, 바뀐 뒤의 태그 사용 목록을 반환합니다.
+     * 그대로 남은 태그는 연결을 유지해 처음 붙은 시각을 보존하고, 빠진 태그만 끊고 새 태그만 붙입니다.
+     */
+    private List<HashtagUsage> manageHashtags(Blog blog, List<String> tagNameList, List<HashtagUsage> previousUsages) {
+        // 1. 이름 목록을 한 번에 Hashtag로 변환 (없는 태그는 일괄 생성)
+        Map<String, Hashtag> resolved = (tagNameList == null || tagNameList.isEmpty())
+                ? Map.of()
+                : hashtagService.resolveAll(tagNameList);
+        Set<Long> wantedIds = resolved.values().stream()
+                .map(Hashtag::getId)
+                .collect(Collectors.toSet());
+
+        // 2. 빠진 태그만 연결 해제 (orphanRemoval로 삭제, 프록시 id라 추가 조회 없음)
+        blog.getHashtags().removeIf(blogHashtag -> !wantedIds.contains(blogHashtag.getHashtag().getId()));
+        Set<Long> attachedIds = blog.getHashtags().stream()
+                .map(blogHashtag -> blogHashtag.getHashtag().getId())
+                .collect(Collectors.toSet());
+
+        Map<String, LocalDateTime> previousAttachedAt = previousUsages.stream()
+                .collect(Collectors.toMap(HashtagUsage::name, HashtagUsage::attachedAt, (a, b) -> a));
+        // DB(timestamp)와 같은 정밀도로 맞춰, 나중에 DB에서 읽은 사용 기록과 그대로 비교할 수 있게 함
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        List<HashtagUsage> usages = new ArrayList<>();
+        resolved.forEach((name, hashtag) -> {
+            if (attachedIds.contains(hashtag.getId())) {
+                usages.add(new HashtagUsage(name, previousAttachedAt.getOrDefault(name, now)));
+                return;
+            }
+            // 3. 새 태그만 Blog와 연결 (연관관계 편의 메소드 역할)
+            blog.getHashtags().add(BlogHashtag.builder()
                     .blog(blog)
                     .hashtag(hashtag)
-                    .build();
-            
-            // 4. Blog 엔티티의 hashtags Set에 추가 (연관관계 편의 메소드 역할)
-            blog.getHashtags().add(blogHashtag);
+                    .attachedAt(now)
+                    .build());
+            usages.add(new HashtagUsage(name, now));
+        });
+        return usages;
+    }
+
+    /**
+     * 공개 블로그 기준 태그 사용의 변경 전/후를 비교해 인기 태그 집계에 반영합니다. (커밋 후)
+     * 비공개이거나 삭제된 상태는 빈 목록으로 넘기면, 공개 전환은 추가로, 비공개 전환/삭제는 차감으로 처리됩니다.
+     */
+    private void publishHashtagUsageChanges(List<HashtagUsage> before, List<HashtagUsage> after) {
+        Set<HashtagUsage> beforeSet = new HashSet<>(before);
+        Set<HashtagUsage> afterSet = new HashSet<>(after);
+        List<HashtagUsage> added = after.stream().filter(usage -> !beforeSet.contains(usage)).toList();
+        List<HashtagUsage> removed = before.stream().filter(usage -> !afterSet.contains(usage)).toList();
+        if (!added.isEmpty() || !removed.isEmpty()) {
+            eventPublisher.publishEvent(new HashtagUsagesChangedEvent(added, removed));
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.flowerguys.localpiece.domain.blog.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 블로그 조회수를 메모리에 모아 두었다가 주기적으로 한 번에 반영하는 write-behind 카운터.
+ * 상세 조회마다 행 잠금을 잡는 UPDATE를 하지 않도록, 조회 시에는 블로그별 LongAdder만 증가시키고
+ * 모인 증가분은 주기마다 UPDATE 한 문장으로 반영합니다. 종료 시 남은 증가분도 반영합니다.
+ * 서버가 비정상 종료되면 마지막 주기의 증가분은 유실될 수 있습니다.
+ */
+@Slf4j
+@Component
+public class BlogViewCounter {
+
+    // 블로그 id/증가분 배열을 펼쳐 한 문장으로 반영 (PostgreSQL)
+    private static final String FLUSH_SQL =
+            "UPDATE blog b SET view_count = b.view_count + v.delta " +
+            "FROM (SELECT unnest(?::bigint[]) AS blog_id, unnest(?::bigint[]) AS delta) v " +
+            "WHERE b.blog_id = v.blog_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, Counter> pending = new ConcurrentHashMap<>();
+
+    public BlogViewCounter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        meterRegistry.gaugeMapSize("blog.views.pending", List.of(), pending);
+    }
+
+    public void increment(Long blogId) {
+        // flush의 제거와 같은 키 잠금 안에서 증가시켜, 제거된 Counter에 증가분이 들어가 유실되지 않도록 함
+        pending.compute(blogId, (id, counter) -> {
+            Counter target = counter != null ? counter : new Counter();
+            target.views.increment();
+            return target;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${blog.views.flush-interval-ms:10000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 마지막 반영 이후의 증가분을 DB에 반영합니다. 실패하면 다음 주기에 다시 시도합니다.
+     */
+    public synchronized void flush() {
+        List<Delta> deltas = new ArrayList<>();
+        pending.forEach((blogId, counter) -> {
+            long total = counter.views.sum();
+            if (total > counter.flushed) {
+                deltas.add(new Delta(blogId, counter, total));
+            } else {
+                // 한 주기 동안 조회가 없던 항목은 제거. 증가와 같은 키 잠금 안에서 다시 확인하므로 제거 중 들어온 조회는 남음
+                pending.computeIfPresent(blogId, (id, current) -> current.views.sum() == current.flushed ? null : current);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // 동시에 다른 트랜잭션과 잠금 순서가 엇갈리지 않도록 id 순으로 정렬
+        deltas.sort(Comparator.comparingLong(Delta::blogId));
+
+        try {
+            int updated = jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(FLUSH_SQL);
+                statement.setArray(1, connection.createArrayOf("bigint",
+                        deltas.stream().map(Delta::blogId).toArray()));
+                statement.setArray(2, connection.createArrayOf("bigint",
+                        deltas.stream().map(delta -> delta.total() - delta.counter().flushed).toArray()));
+                return statement;
+            });
+            deltas.forEach(delta -> delta.counter().flushed = delta.total());
+            log.debug("조회수 반영 완료. 블로그 수: {}, 갱신 행: {}", deltas.size(), updated);
+        } catch (DataAccessException e) {
+            // 반영할 증가분이 남은 Counter는 제거하지 않으므로 다음 주기에 그대로 다시 반영됨
+            log.error("조회수 반영 실패 (다음 주기에 재시도). 블로그 수: {}, Error: {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    private static final class Counter {
+        private final LongAdder views = new LongAdder();
+        // 이미 DB에 반영한 누적값 (flush에서만 변경)
+        private long flushed;
+    }
+
+    private record Delta(Long blogId, Counter counter, long total) {
+    }
+}
@@ -2,6 +2,14 @@ package com.flowerguys.localpiece.domain.comment.repository;
 
 import com.flowerguys.localpiece.domain.comment.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-}
\ No newline at end of file
+
+    // 동시에 같은 댓글을 삭제해도 실제로 지운 요청만 1을 받도록 벌크 삭제로 처리
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :commentId")
+    int deleteByIdReturningCount(@Param("commentId") Long commentId);
+}
@@ -2,6 +2,7 @@ package com.flowerguys.localpiece.domain.comment.service;
 
 import com.flowerguys.localpiece.domain.blog.entity.Blog;
 import com.flowerguys.localpiece.domain.blog.repository.BlogRepository;
+import com.flowerguys.localpiece.domain.blog.service.BlogChangedEvent;
 import com.flowerguys.localpiece.domain.comment.dto.CommentRequestDto;
 import com.flowerguys.localpiece.domain.comment.dto.CommentResponseDto;
 import com.flowerguys.localpiece.domain.comment.entity.Comment;
@@ -11,6 +12,7 @@ import com.flowerguys.localpiece.domain.user.repository.UserRepository;
 import com.flowerguys.localpiece.global.common.ErrorCode;
 import com.flowerguys.localpiece.global.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final BlogRepository blogRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CommentResponseDto createComment(Long blogId, String email, CommentRequestDto requestDto) {
@@ -34,6 +37,8 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        blogRepository.incrementCommentCount(blog.getId());
+        eventPublisher.publishEvent(new BlogChangedEvent(blog.getId()));
         return new CommentResponseDto(savedComment);
     }
 
@@ -44,6 +49,7 @@ public class CommentService {
         checkOwnership(comment, user);
 
         comment.update(requestDto.getContent());
+        eventPublisher.publishEvent(new BlogChangedEvent(comment.getBlog().getId()));
         return new CommentResponseDto(comment);
     }
 
@@ -53,7 +59,10 @@ public class CommentService {
         Comment comment = findComment(commentId);
         checkOwnership(comment, user);
 
-        commentRepository.delete(comment);
+        if (commentRepository.deleteByIdReturningCount(comment.getId()) > 0) {
+            blogRepository.decrementCommentCount(comment.getBlog().getId());
+        }
+        eventPublisher.publishEvent(new BlogChangedEvent(comment.getBlog().getId()));
     }
     
     private User findUser(String email) {
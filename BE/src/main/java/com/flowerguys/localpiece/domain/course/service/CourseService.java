@@ -8,6 +8,7 @@ import com.flowerguys.localpiece.global.common.ErrorCode;
 import com.flowerguys.localpiece.global.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -22,6 +23,7 @@ import org.springframework.web.client.RestTemplate;
 @RequiredArgsConstructor
 public class CourseService {
 
+    @Qualifier("aiNewServerRestTemplate")
     private final RestTemplate restTemplate;
 
     @Value("${ai-new-server.url}")
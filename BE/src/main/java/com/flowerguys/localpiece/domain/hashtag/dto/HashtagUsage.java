@@ -0,0 +1,9 @@
+package com.flowerguys.localpiece.domain.hashtag.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 블로그에 붙은 해시태그 한 건 (태그 이름, 붙은 시각). 인기 해시태그 집계의 단위입니다.
+ */
+public record HashtagUsage(String name, LocalDateTime attachedAt) {
+}
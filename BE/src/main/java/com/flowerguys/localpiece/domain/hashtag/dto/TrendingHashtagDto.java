@@ -0,0 +1,15 @@
+package com.flowerguys.localpiece.domain.hashtag.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인기 해시태그. score는 최근 사용일수록 크게 반영한 사용 횟수입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class TrendingHashtagDto {
+
+    private String name;
+    private double score;
+}
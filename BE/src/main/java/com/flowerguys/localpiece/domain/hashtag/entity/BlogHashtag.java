@@ -7,9 +7,15 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    // 태그별 블로그 조회 시 blog_hashtag 전체를 훑지 않도록 hashtag_id로 시작하는 인덱스
+    @Index(name = "idx_blog_hashtag_hashtag_blog", columnList = "hashtag_id, blog_id")
+})
 public class BlogHashtag {
 
     @Id
@@ -24,9 +30,13 @@ public class BlogHashtag {
     @JoinColumn(name = "hashtag_id")
     private Hashtag hashtag;
 
+    // 태그가 블로그에 붙은 시각 (인기 해시태그 집계 기준). 컬럼 추가 전 행은 null
+    private LocalDateTime attachedAt;
+
     @Builder
-    public BlogHashtag(Blog blog, Hashtag hashtag) {
+    public BlogHashtag(Blog blog, Hashtag hashtag, LocalDateTime attachedAt) {
         this.blog = blog;
         this.hashtag = hashtag;
+        this.attachedAt = attachedAt;
     }
 }
\ No newline at end of file
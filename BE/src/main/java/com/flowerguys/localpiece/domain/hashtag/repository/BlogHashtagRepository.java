@@ -1,7 +1,28 @@
 package com.flowerguys.localpiece.domain.hashtag.repository;
 
+import com.flowerguys.localpiece.domain.hashtag.dto.HashtagUsage;
 import com.flowerguys.localpiece.domain.hashtag.entity.BlogHashtag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface BlogHashtagRepository extends JpaRepository<BlogHashtag, Long> {
-}
\ No newline at end of file
+
+    // attached_at 컬럼 추가 전에 붙은 태그는 블로그 작성 시각을 붙은 시각으로 사용
+    String USAGE_SELECT =
+            "SELECT new com.flowerguys.localpiece.domain.hashtag.dto.HashtagUsage(" +
+            "h.name, COALESCE(bh.attachedAt, b.createdAt)) " +
+            "FROM BlogHashtag bh JOIN bh.blog b JOIN bh.hashtag h ";
+
+    // 인기 해시태그 집계 복원용: 기간 내 공개 블로그에 붙은 태그
+    @Query(USAGE_SELECT +
+           "WHERE COALESCE(bh.attachedAt, b.createdAt) >= :since AND b.isDeleted = false AND b.isPrivate = false")
+    List<HashtagUsage> findPublicUsagesSince(@Param("since") LocalDateTime since);
+
+    // 블로그 수정/삭제 전 태그 목록 (인기 해시태그 집계 차감용)
+    @Query(USAGE_SELECT + "WHERE b.id = :blogId")
+    List<HashtagUsage> findUsagesByBlogId(@Param("blogId") Long blogId);
+}
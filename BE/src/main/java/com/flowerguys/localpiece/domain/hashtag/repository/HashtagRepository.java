@@ -2,8 +2,22 @@ package com.flowerguys.localpiece.domain.hashtag.repository;
 
 import com.flowerguys.localpiece.domain.hashtag.entity.Hashtag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
     Optional<Hashtag> findByName(String name);
-}
\ No newline at end of file
+
+    List<Hashtag> findAllByNameIn(Collection<String> names);
+
+    // 없는 이름만 한 문장으로 추가. 동시에 같은 태그를 만드는 요청이 있어도 name 유니크 제약에서 충돌 없이 건너뜀 (PostgreSQL)
+    @Modifying
+    @Query(value = "INSERT INTO hashtag (name) SELECT unnest(CAST(:names AS text[])) ON CONFLICT (name) DO NOTHING",
+           nativeQuery = true)
+    int insertIgnoringDuplicates(@Param("names") String[] names);
+}
@@ -0,0 +1,123 @@
+package com.flowerguys.localpiece.domain.hashtag.service;
+
+import com.flowerguys.localpiece.domain.hashtag.entity.Hashtag;
+import com.flowerguys.localpiece.domain.hashtag.repository.HashtagRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 해시태그 이름을 Hashtag로 일괄 변환합니다.
+ * 자주 쓰는 태그는 이름 -> id 캐시로 DB 조회 없이 처리하고, 나머지는 IN 조회 한 번과
+ * 없는 이름의 일괄 INSERT ... ON CONFLICT DO NOTHING 한 번으로 처리합니다.
+ */
+@Service
+public class HashtagService {
+
+    private static final long CACHE_MAXIMUM_SIZE = 10_000;
+
+    private final HashtagRepository hashtagRepository;
+    // 해시태그는 삭제되지 않으므로 이름 -> id는 한 번 확정되면 바뀌지 않음
+    private final Cache<String, Long> idCache;
+
+    public HashtagService(HashtagRepository hashtagRepository, MeterRegistry meterRegistry) {
+        this.hashtagRepository = hashtagRepository;
+        this.idCache = Caffeine.newBuilder()
+                .maximumSize(CACHE_MAXIMUM_SIZE)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, idCache, "hashtagIds");
+    }
+
+    /**
+     * 이름 순서를 유지하며 중복과 빈 이름을 뺀 이름 -> Hashtag 참조를 반환합니다. 없는 해시태그는 새로 만듭니다.
+     * 값은 id만 채워진 참조(프록시)이므로 연관관계 설정 용도로 사용합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<String, Hashtag> resolveAll(Collection<String> tagNames) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String tagName : tagNames) {
+            if (StringUtils.hasText(tagName)) {
+                names.add(tagName);
+            }
+        }
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> ids = new HashMap<>(idCache.getAllPresent(names));
+        List<String> missing = names.stream().filter(name -> !ids.containsKey(name)).toList();
+
+        if (!missing.isEmpty()) {
+            // 이미 커밋된 해시태그는 바로 캐시에 넣음
+            Map<String, Long> existing = findIds(missing);
+            ids.putAll(existing);
+            idCache.putAll(existing);
+
+            List<String> toInsert = missing.stream().filter(name -> !existing.containsKey(name)).toList();
+            if (!toInsert.isEmpty()) {
+                hashtagRepository.insertIgnoringDuplicates(toInsert.toArray(new String[0]));
+                Map<String, Long> inserted = findIds(toInsert);
+                ids.putAll(inserted);
+                cacheAfterCommit(inserted);
+            }
+        }
+
+        Map<String, Hashtag> hashtags = new LinkedHashMap<>();
+        for (String name : names) {
+            hashtags.put(name, hashtagRepository.getReferenceById(ids.get(name)));
+        }
+        return hashtags;
+    }
+
+    /**
+     * 이미 있는 해시태그의 id를 찾습니다. (새로 만들지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findId(String tagName) {
+        if (!StringUtils.hasText(tagName)) {
+            return Optional.empty();
+        }
+        Long cached = idCache.getIfPresent(tagName);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Long> id = hashtagRepository.findByName(tagName).map(Hashtag::getId);
+        id.ifPresent(found -> idCache.put(tagName, found));
+        return id;
+    }
+
+    private Map<String, Long> findIds(Collection<String> names) {
+        Map<String, Long> ids = new LinkedHashMap<>();
+        for (Hashtag hashtag : hashtagRepository.findAllByNameIn(names)) {
+            ids.put(hashtag.getName(), hashtag.getId());
+        }
+        return ids;
+    }
+
+    // 이 트랜잭션에서 만든 행은 롤백될 수 있으므로 커밋된 뒤에만 캐시에 넣음
+    private void cacheAfterCommit(Map<String, Long> inserted) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                idCache.putAll(inserted);
+            }
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.flowerguys.localpiece.domain.hashtag.service;
+
+import com.flowerguys.localpiece.domain.hashtag.dto.HashtagUsage;
+
+import java.util.List;
+
+/**
+ * 공개 블로그 기준으로 집계되는 해시태그 사용이 늘거나 줄었음을 알리는 이벤트.
+ * 태그 추가/제거뿐 아니라 공개 전환(added), 비공개 전환/삭제(removed)도 포함하며, 커밋 후 TrendingHashtagTracker가 반영합니다.
+ */
+public record HashtagUsagesChangedEvent(List<HashtagUsage> added, List<HashtagUsage> removed) {
+}
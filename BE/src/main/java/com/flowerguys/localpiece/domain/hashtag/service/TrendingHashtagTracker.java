@@ -0,0 +1,161 @@
+package com.flowerguys.localpiece.domain.hashtag.service;
+
+import com.flowerguys.localpiece.domain.hashtag.dto.HashtagUsage;
+import com.flowerguys.localpiece.domain.hashtag.dto.TrendingHashtagDto;
+import com.flowerguys.localpiece.domain.hashtag.repository.BlogHashtagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인기 해시태그 집계기. 태그별로 시간에 따라 지수적으로 줄어드는 점수를 메모리에 유지합니다.
+ * 공개 블로그에 붙은 태그마다 붙은 시각(BlogHashtag.attachedAt) 기준으로 점수 1을 더하고, half-life마다 점수가 절반이 됩니다.
+ * 태그 제거, 비공개 전환, 삭제 시에는 같은 시각 기준으로 더했던 몫을 뺍니다.
+ * window보다 오래된 사용은 집계하지 않으며, 기동 시 같은 기준으로 window 안의 사용을 다시 채웁니다.
+ * 다시 채우는 동안 들어온 이벤트는 스냅샷 시각을 기준으로 걸러 같은 사용을 두 번 더하지 않습니다.
+ */
+@Slf4j
+@Component
+public class TrendingHashtagTracker {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    // 부동소수점 오차로 남는 점수는 0으로 봄
+    private static final double MIN_SCORE = 1e-6;
+
+    private final BlogHashtagRepository blogHashtagRepository;
+    private final double halfLifeMillis;
+    private final Duration window;
+    private final Map<String, DecayingCounter> counters = new ConcurrentHashMap<>();
+
+    // 기동 시 재구성 중인 동안의 스냅샷 시각(재구성 중이 아니면 null)과, 재구성이 끝난 뒤 반영할 제거분
+    private final Object rebuildLock = new Object();
+    private LocalDateTime rebuildSnapshotAt;
+    private final List<HashtagUsage> deferredRemovals = new ArrayList<>();
+
+    public TrendingHashtagTracker(BlogHashtagRepository blogHashtagRepository,
+                                  @Value("${blog.trending-tags.half-life:24h}") Duration halfLife,
+                                  @Value("${blog.trending-tags.window:7d}") Duration window) {
+        this.blogHashtagRepository = blogHashtagRepository;
+        this.halfLifeMillis = halfLife.toMillis();
+        this.window = window;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        LocalDateTime snapshotAt = LocalDateTime.now();
+        synchronized (rebuildLock) {
+            // 이전에 반영된 이벤트는 스냅샷 조회에 모두 포함되므로 비우고 다시 채움
+            counters.clear();
+            rebuildSnapshotAt = snapshotAt;
+        }
+        try {
+            List<HashtagUsage> usages = blogHashtagRepository.findPublicUsagesSince(snapshotAt.minus(window));
+            usages.forEach(usage -> record(usage, 1));
+            log.info("인기 해시태그 집계 초기화 완료. 사용 {}건, 태그 {}개", usages.size(), counters.size());
+        } catch (Exception e) {
+            log.error("인기 해시태그 집계 초기화 실패: {}", e.getMessage(), e);
+        } finally {
+            synchronized (rebuildLock) {
+                deferredRemovals.forEach(usage -> record(usage, -1));
+                deferredRemovals.clear();
+                rebuildSnapshotAt = null;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHashtagUsagesChanged(HashtagUsagesChangedEvent event) {
+        synchronized (rebuildLock) {
+            if (rebuildSnapshotAt == null) {
+                event.removed().forEach(usage -> record(usage, -1));
+                event.added().forEach(usage -> record(usage, 1));
+                return;
+            }
+            // 재구성 중: 스냅샷 시각 이전에 붙은 사용은 조회 결과에 이미 포함되므로 건너뜀.
+            // 제거는 조회 결과가 모두 더해진 뒤에 빼야 하므로 재구성이 끝날 때까지 미룸
+            deferredRemovals.addAll(event.removed());
+            event.added().stream()
+                    .filter(usage -> usage.attachedAt().isAfter(rebuildSnapshotAt))
+                    .forEach(usage -> record(usage, 1));
+        }
+    }
+
+    /**
+     * 현재 시점 점수가 높은 순으로 limit개를 반환합니다.
+     */
+    public List<TrendingHashtagDto> top(int limit) {
+        long now = System.currentTimeMillis();
+        return counters.entrySet().stream()
+                .map(entry -> new TrendingHashtagDto(entry.getKey(), entry.getValue().scoreAt(now, halfLifeMillis)))
+                .sorted(Comparator.comparingDouble(TrendingHashtagDto::getScore).reversed()
+                        .thenComparing(TrendingHashtagDto::getName))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * window 동안 쓰이지 않은 태그를 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${blog.trending-tags.prune-interval-ms:600000}")
+    public void prune() {
+        long cutoff = System.currentTimeMillis() - window.toMillis();
+        counters.entrySet().removeIf(entry -> entry.getValue().lastUsedAt() < cutoff);
+    }
+
+    private void record(HashtagUsage usage, int delta) {
+        long at = toMillis(usage.attachedAt());
+        if (at < System.currentTimeMillis() - window.toMillis()) {
+            return; // 기동 시 복원과 같은 기준: window보다 오래된 사용은 더하지도 빼지도 않음
+        }
+        counters.compute(usage.name(), (key, counter) -> {
+            if (counter == null) {
+                return delta > 0 ? new DecayingCounter(0, at).add(at, delta, halfLifeMillis) : null;
+            }
+            DecayingCounter updated = counter.add(at, delta, halfLifeMillis);
+            // 모든 사용이 취소된 태그는 제거
+            return updated.score() > MIN_SCORE ? updated : null;
+        });
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    /**
+     * lastUsedAt 시점 기준 점수. 다른 시점의 점수는 경과 시간만큼 감쇠시켜 계산합니다.
+     */
+    private record DecayingCounter(double score, long lastUsedAt) {
+
+        DecayingCounter add(long at, int delta, double halfLifeMillis) {
+            if (at >= lastUsedAt && delta > 0) {
+                return new DecayingCounter(scoreAt(at, halfLifeMillis) + delta, at);
+            }
+            // 과거 시점 사용(기동 시 복원 등)이나 사용 취소는 lastUsedAt 기준으로 감쇠시켜 더하거나 뺌
+            double weight = decay(Math.max(lastUsedAt - at, 0), halfLifeMillis);
+            return new DecayingCounter(Math.max(score + delta * weight, 0), lastUsedAt);
+        }
+
+        double scoreAt(long at, double halfLifeMillis) {
+            return score * decay(Math.max(at - lastUsedAt, 0), halfLifeMillis);
+        }
+
+        private static double decay(long elapsedMillis, double halfLifeMillis) {
+            return Math.pow(0.5, elapsedMillis / halfLifeMillis);
+        }
+    }
+}
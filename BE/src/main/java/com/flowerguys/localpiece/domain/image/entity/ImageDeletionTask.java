@@ -0,0 +1,57 @@
+package com.flowerguys.localpiece.domain.image.entity;
+
+import com.flowerguys.localpiece.global.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Object Storage에서 지워야 할 이미지 (삭제 outbox).
+ * 블로그 수정/삭제 트랜잭션 안에서 함께 저장되고, ImageDeletionWorker가 커밋된 항목만 꺼내 삭제합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "image_deletion_outbox", indexes = {
+    @Index(name = "idx_image_deletion_next_attempt", columnList = "next_attempt_at")
+})
+public class ImageDeletionTask extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "image_deletion_id")
+    private Long id;
+
+    @Column(nullable = false, length = 1000)
+    private String imageUrl;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public ImageDeletionTask(String imageUrl) {
+        this.imageUrl = imageUrl;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * 작업자가 처리 중임을 표시. 처리 도중 서버가 죽어도 lease가 지나면 다시 꺼내짐
+     */
+    public void lease(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    public void recordFailure(String error, LocalDateTime retryAt) {
+        this.attempts++;
+        this.lastError = (error != null && error.length() > 500) ? error.substring(0, 500) : error;
+        this.nextAttemptAt = retryAt;
+    }
+}
@@ -0,0 +1,23 @@
+package com.flowerguys.localpiece.domain.image.repository;
+
+import com.flowerguys.localpiece.domain.image.entity.ImageDeletionTask;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ImageDeletionTaskRepository extends JpaRepository<ImageDeletionTask, Long> {
+
+    // 처리할 차례가 된 항목을 잠그며 조회. 다른 인스턴스가 잠근 행은 건너뜀 (lock.timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM ImageDeletionTask t WHERE t.nextAttemptAt <= :now ORDER BY t.nextAttemptAt ASC")
+    List<ImageDeletionTask> findDueForUpdate(@Param("now") LocalDateTime now, Limit limit);
+}
@@ -0,0 +1,24 @@
+package com.flowerguys.localpiece.domain.image.service;
+
+import com.flowerguys.localpiece.domain.image.entity.ImageDeletionTask;
+import com.flowerguys.localpiece.domain.image.repository.ImageDeletionTaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 이미지 삭제를 바로 실행하지 않고 outbox 테이블에 기록합니다.
+ * 호출한 쪽의 트랜잭션에 함께 묶이므로, 롤백되면 삭제 요청도 사라지고 커밋된 경우에만 실제로 삭제됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImageDeletionOutbox {
+
+    private final ImageDeletionTaskRepository imageDeletionTaskRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String imageUrl) {
+        imageDeletionTaskRepository.save(new ImageDeletionTask(imageUrl));
+    }
+}
@@ -0,0 +1,141 @@
+package com.flowerguys.localpiece.domain.image.service;
+
+import com.flowerguys.localpiece.domain.image.entity.ImageDeletionTask;
+import com.flowerguys.localpiece.domain.image.repository.ImageDeletionTaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 이미지 삭제 outbox를 주기적으로 꺼내 Object Storage에서 지웁니다.
+ * 1) 짧은 트랜잭션으로 처리할 항목을 잠가 lease를 걸고, 2) 트랜잭션 밖에서 동시에 삭제한 뒤,
+ * 3) 성공한 항목은 지우고 실패한 항목은 지수 백오프로 재시도 시각을 미룹니다.
+ */
+@Slf4j
+@Component
+public class ImageDeletionWorker {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final ImageDeletionTaskRepository imageDeletionTaskRepository;
+    private final ImageUploadService imageUploadService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Semaphore deletePermits;
+
+    public ImageDeletionWorker(ImageDeletionTaskRepository imageDeletionTaskRepository,
+                               ImageUploadService imageUploadService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${image.deletion.batch-size:50}") int batchSize,
+                               @Value("${image.deletion.concurrency:4}") int concurrency,
+                               @Value("${image.deletion.max-attempts:10}") int maxAttempts) {
+        this.imageDeletionTaskRepository = imageDeletionTaskRepository;
+        this.imageUploadService = imageUploadService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.deletePermits = new Semaphore(concurrency);
+    }
+
+    @Scheduled(fixedDelayString = "${image.deletion.poll-interval-ms:5000}")
+    public void drain() {
+        try {
+            List<ImageDeletionTask> tasks;
+            // 한 번에 batchSize개씩, 더 꺼낼 항목이 없을 때까지 처리
+            do {
+                tasks = claimBatch();
+                if (!tasks.isEmpty()) {
+                    complete(tasks, deleteAll(tasks));
+                }
+            } while (tasks.size() == batchSize);
+        } catch (Exception e) {
+            log.error("이미지 삭제 outbox 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private List<ImageDeletionTask> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<ImageDeletionTask> due = imageDeletionTaskRepository.findDueForUpdate(now, Limit.of(batchSize));
+            due.forEach(task -> task.lease(now.plus(LEASE)));
+            return due;
+        });
+    }
+
+    /**
+     * 동시 삭제 수를 제한하며 가상 스레드로 삭제하고, 실패한 항목의 id와 오류 메시지를 반환합니다.
+     */
+    private Map<Long, String> deleteAll(List<ImageDeletionTask> tasks) {
+        Map<Long, String> failures = new ConcurrentHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ImageDeletionTask task : tasks) {
+                executor.submit(() -> {
+                    try {
+                        deletePermits.acquire();
+                        try {
+                            // 이미 없는 이미지(404)는 deleteImage에서 성공으로 처리됨
+                            imageUploadService.deleteImage(task.getImageUrl());
+                        } finally {
+                            deletePermits.release();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        failures.put(task.getId(), "interrupted");
+                    } catch (RuntimeException e) {
+                        failures.put(task.getId(), String.valueOf(e.getMessage()));
+                    }
+                });
+            }
+        }
+        return failures;
+    }
+
+    private void complete(List<ImageDeletionTask> tasks, Map<Long, String> failures) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> doneIds = new ArrayList<>();
+            LocalDateTime now = LocalDateTime.now();
+            for (ImageDeletionTask task : tasks) {
+                String error = failures.get(task.getId());
+                if (error == null) {
+                    doneIds.add(task.getId());
+                    continue;
+                }
+                if (task.getAttempts() + 1 >= maxAttempts) {
+                    log.error("이미지 삭제를 {}회 실패하여 포기합니다. URL: {}, Error: {}", maxAttempts, task.getImageUrl(), error);
+                    doneIds.add(task.getId());
+                    continue;
+                }
+                ImageDeletionTask managed = imageDeletionTaskRepository.findById(task.getId()).orElse(null);
+                if (managed != null) {
+                    managed.recordFailure(error, now.plus(backoff(managed.getAttempts())));
+                }
+            }
+            imageDeletionTaskRepository.deleteAllByIdInBatch(doneIds);
+        });
+        if (!failures.isEmpty()) {
+            log.warn("이미지 삭제 일부 실패 (재시도 예정). 처리: {}, 실패: {}", tasks.size(), failures.size());
+        }
+    }
+
+    private static Duration backoff(int attempts) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
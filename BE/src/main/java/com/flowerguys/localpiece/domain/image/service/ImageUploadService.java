@@ -4,6 +4,7 @@ import com.oracle.bmc.model.BmcException; // ✨ 1. BmcException import
 import com.oracle.bmc.objectstorage.ObjectStorage;
 import com.oracle.bmc.objectstorage.requests.DeleteObjectRequest;
 import com.oracle.bmc.objectstorage.requests.PutObjectRequest;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,7 +17,14 @@ import java.io.InputStream;
 
 import com.flowerguys.localpiece.global.common.ErrorCode;
 import com.flowerguys.localpiece.global.common.exception.BusinessException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 @Slf4j
 @Service
@@ -31,6 +39,81 @@ public class ImageUploadService {
     @Value("${oci.object-storage.bucket-name}")
     private String bucketName;
 
+    // 동시에 진행할 수 있는 업로드 수 (모든 요청 합산)
+    @Value("${oci.object-storage.upload-concurrency:8}")
+    private int uploadConcurrency;
+
+    private Semaphore uploadPermits;
+
+    @PostConstruct
+    void initUploadPermits() {
+        this.uploadPermits = new Semaphore(uploadConcurrency);
+    }
+
+    /**
+     * 여러 이미지를 가상 스레드로 동시에 업로드하고, 입력 순서대로 URL을 반환합니다.
+     * 하나라도 실패하면 이미 올라간 이미지를 지운 뒤 예외를 던집니다.
+     */
+    public List<String> uploadImages(List<MultipartFile> files) {
+        if (files.isEmpty()) {
+            return List.of();
+        }
+        if (files.size() == 1) {
+            return List.of(uploadImage(files.get(0)));
+        }
+
+        List<Future<String>> futures = new ArrayList<>(files.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (MultipartFile file : files) {
+                futures.add(executor.submit(() -> uploadWithPermit(file)));
+            }
+        } // close()는 모든 업로드가 끝날 때까지 대기
+
+        List<String> uploadedUrls = new ArrayList<>(files.size());
+        RuntimeException failure = null;
+        for (Future<String> future : futures) {
+            try {
+                uploadedUrls.add(future.get());
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof BusinessException businessException
+                            ? businessException
+                            : new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+                    log.error("이미지 병렬 업로드 실패: {}", e.getCause().getMessage(), e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+            }
+        }
+
+        if (failure != null) {
+            uploadedUrls.forEach(this::deleteImageQuietly);
+            throw failure;
+        }
+        return uploadedUrls;
+    }
+
+    /**
+     * 이미지를 지우되 실패해도 예외를 던지지 않습니다. (업로드 취소 등 정리 용도)
+     */
+    public void deleteImageQuietly(String imageUrl) {
+        try {
+            deleteImage(imageUrl);
+        } catch (RuntimeException e) {
+            log.error("이미지 정리 실패. URL: {}, Error: {}", imageUrl, e.getMessage());
+        }
+    }
+
+    private String uploadWithPermit(MultipartFile file) throws InterruptedException {
+        uploadPermits.acquire();
+        try {
+            return uploadImage(file);
+        } finally {
+            uploadPermits.release();
+        }
+    }
+
     public String uploadImage(MultipartFile file) {
         String uniqueFileName = UUID.randomUUID().toString() + "_" + file.getOriginalFilename();
 
@@ -2,9 +2,11 @@ package com.flowerguys.localpiece.domain.like.repository;
 
 import com.flowerguys.localpiece.domain.like.entity.BlogLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 
@@ -12,7 +14,12 @@ public interface BlogLikeRepository extends JpaRepository<BlogLike, Long> {
     Optional<BlogLike> findByUserIdAndBlogId(Long userId, Long blogId);
     boolean existsByUserIdAndBlogId(Long userId, Long blogId);
 
-    // ✨ 특정 사용자가 '좋아요' 누른 모든 블로그의 ID를 조회하는 기능 추가
-    @Query("SELECT bl.blog.id FROM BlogLike bl WHERE bl.user.id = :userId")
-    Set<Long> findLikedBlogIdsByUserId(@Param("userId") Long userId);
+    // 동시에 같은 좋아요를 취소해도 실제로 지운 요청만 1을 받도록 벌크 삭제로 처리
+    @Modifying
+    @Query("DELETE FROM BlogLike bl WHERE bl.id = :likeId")
+    int deleteByIdReturningCount(@Param("likeId") Long likeId);
+
+    // 주어진 블로그 id 중 사용자가 '좋아요' 누른 것만 조회 (like_uk(user_id, blog_id) 인덱스 사용)
+    @Query("SELECT bl.blog.id FROM BlogLike bl WHERE bl.user.id = :userId AND bl.blog.id IN :blogIds")
+    Set<Long> findLikedBlogIdsAmong(@Param("userId") Long userId, @Param("blogIds") Collection<Long> blogIds);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.flowerguys.localpiece.domain.like.service;
 
 import com.flowerguys.localpiece.domain.blog.entity.Blog;
 import com.flowerguys.localpiece.domain.blog.repository.BlogRepository;
+import com.flowerguys.localpiece.domain.blog.service.BlogChangedEvent;
 import com.flowerguys.localpiece.domain.like.entity.BlogLike;
 import com.flowerguys.localpiece.domain.like.repository.BlogLikeRepository;
 import com.flowerguys.localpiece.domain.user.entity.User;
@@ -9,6 +10,7 @@ import com.flowerguys.localpiece.domain.user.repository.UserRepository;
 import com.flowerguys.localpiece.global.common.ErrorCode;
 import com.flowerguys.localpiece.global.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,17 +21,23 @@ public class LikeService {
     private final BlogLikeRepository blogLikeRepository;
     private final UserRepository userRepository;
     private final BlogRepository blogRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public String toggleLike(Long blogId, String email) {
         User user = findUser(email);
         Blog blog = findBlog(blogId);
 
+        // 상세 캐시의 좋아요 수를 비우도록 커밋 후 알림
+        eventPublisher.publishEvent(new BlogChangedEvent(blog.getId()));
+
         // 이미 좋아요를 눌렀는지 확인
         return blogLikeRepository.findByUserIdAndBlogId(user.getId(), blog.getId())
                 .map(like -> {
                     // 이미 좋아요를 눌렀다면 -> 좋아요 취소
-                    blogLikeRepository.delete(like);
+                    if (blogLikeRepository.deleteByIdReturningCount(like.getId()) > 0) {
+                        blogRepository.decrementLikeCount(blog.getId());
+                    }
                     return "좋아요가 취소되었습니다.";
                 })
                 .orElseGet(() -> {
@@ -38,7 +46,9 @@ public class LikeService {
                             .user(user)
                             .blog(blog)
                             .build();
-                    blogLikeRepository.save(newLike);
+                    // 중복 좋아요는 유니크 제약(like_uk)에서 실패하므로, 저장이 확정된 뒤에만 개수를 올림
+                    blogLikeRepository.saveAndFlush(newLike);
+                    blogRepository.incrementLikeCount(blog.getId());
                     return "좋아요를 눌렀습니다.";
                 });
     }
@@ -0,0 +1,48 @@
+package com.flowerguys.localpiece.domain.like.service;
+
+import com.flowerguys.localpiece.domain.like.repository.BlogLikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 목록 화면의 '내가 좋아요 누른 글' 표시용 조회.
+ * 사용자가 지금까지 누른 좋아요 전체가 아니라, 화면에 보이는 블로그 id들만 IN 쿼리로 확인합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LikeStatusService {
+
+    // 내 블로그 목록처럼 한 번에 많은 id를 확인할 때 IN 절을 나누는 크기
+    private static final int IN_CHUNK_SIZE = 500;
+
+    private final BlogLikeRepository blogLikeRepository;
+
+    /**
+     * blogIds 중 사용자가 좋아요를 누른 블로그 id를 반환합니다. 비로그인(userId null)이면 빈 Set입니다.
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findLikedBlogIds(Long userId, Collection<Long> blogIds) {
+        if (userId == null || blogIds == null || blogIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<Long> ids = new ArrayList<>(new HashSet<>(blogIds));
+        if (ids.size() <= IN_CHUNK_SIZE) {
+            return blogLikeRepository.findLikedBlogIdsAmong(userId, ids);
+        }
+
+        Set<Long> liked = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            liked.addAll(blogLikeRepository.findLikedBlogIdsAmong(
+                    userId, ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()))));
+        }
+        return liked;
+    }
+}
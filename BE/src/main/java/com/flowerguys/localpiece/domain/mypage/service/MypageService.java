@@ -1,9 +1,10 @@
 package com.flowerguys.localpiece.domain.mypage.service;
 
 import com.flowerguys.localpiece.domain.blog.dto.BlogListResponseDto;
+import com.flowerguys.localpiece.domain.blog.dto.BlogSummary;
 import com.flowerguys.localpiece.domain.blog.entity.Blog;
 import com.flowerguys.localpiece.domain.blog.repository.BlogRepository;
-import com.flowerguys.localpiece.domain.like.repository.BlogLikeRepository;
+import com.flowerguys.localpiece.domain.like.service.LikeStatusService;
 import com.flowerguys.localpiece.domain.mypage.dto.MyInfoResponseDto;
 import com.flowerguys.localpiece.domain.mypage.dto.PieceListResponseDto;
 import com.flowerguys.localpiece.domain.mypage.dto.PieceSaveRequestDto;
@@ -27,7 +28,7 @@ public class MypageService {
 
     private final UserRepository userRepository;
     private final BlogRepository blogRepository;
-    private final BlogLikeRepository blogLikeRepository;
+    private final LikeStatusService likeStatusService;
     private final PieceRepository pieceRepository;
 
     private User findUser(String email) {
@@ -45,12 +46,12 @@ public class MypageService {
     @Transactional(readOnly = true)
     public List<BlogListResponseDto> getMyBlogs(String email) {
         User user = findUser(email);
-        Set<Long> likedBlogIds = blogLikeRepository.findLikedBlogIdsByUserId(user.getId());
-
-        List<Blog> myBlogs = blogRepository.findAllByUserAndIsDeletedFalseOrderByCreatedAtDesc(user);
+        List<BlogSummary> myBlogs = blogRepository.findSummariesByUserId(user.getId());
+        Set<Long> likedBlogIds = likeStatusService.findLikedBlogIds(
+                user.getId(), myBlogs.stream().map(BlogSummary::id).toList());
 
         return myBlogs.stream()
-                .map(blog -> new BlogListResponseDto(blog, likedBlogIds.contains(blog.getId())))
+                .map(blog -> new BlogListResponseDto(blog, likedBlogIds.contains(blog.id())))
                 .collect(Collectors.toList());
     }
 
@@ -22,8 +22,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.Map;
-import java.util.Set;
 
 @Slf4j
 @Service
@@ -82,20 +80,11 @@ public class SavedCourseService {
         SavedCourse savedCourse = savedCourseRepository.findDetailsByIdAndUserEmail(courseId, email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ACCESS_DENIED, "해당 코스를 조회할 권한이 없거나 코스가 존재하지 않습니다."));
 
-        // 코스 내 모든 장소의 contentId 목록 추출
-        Set<Integer> contentIds = savedCourse.getDays().stream()
-                .flatMap(day -> day.getRoute().stream())
-                .map(SavedPlace::getContentId) // SavedPlace의 contentId 필드 타입에 맞게 (Integer 가정)
-                .collect(Collectors.toSet());
-
-        // SqliteUtil을 사용하여 contentTypeId 조회
-        Map<Integer, String> contentTypeMap = sqliteUtil.findContentTypeIds(contentIds);
-
-        // Entity -> DTO 변환 및 contentTypeId 설정
+        // Entity -> DTO 변환 및 contentTypeId 설정 (SqliteUtil의 메모리 테이블에서 조회)
         SavedCourseDetailResponseDto responseDto = new SavedCourseDetailResponseDto(savedCourse);
         responseDto.getDays().forEach(dayDto -> {
             dayDto.getRoute().forEach(placeDto -> {
-                String contentTypeId = contentTypeMap.get(placeDto.getContentId());
+                String contentTypeId = sqliteUtil.findContentTypeId(placeDto.getContentId());
                 if (contentTypeId != null) {
                     placeDto.setContentTypeId(contentTypeId); // Setter를 이용해 값 설정
                 } else {
@@ -131,19 +120,11 @@ public class SavedCourseService {
         SavedCourse savedCourse = savedCourseRepository.findDetailsByIdPublic(courseId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "해당 ID의 저장된 코스를 찾을 수 없습니다."));
 
-        // SQLite 조회 로직은 기존 getSavedCourseDetails와 동일하게 적용
-        Set<Integer> contentIds = savedCourse.getDays().stream()
-                .flatMap(day -> day.getRoute().stream())
-                .map(SavedPlace::getContentId)
-                .collect(Collectors.toSet());
-
-        Map<Integer, String> contentTypeMap = sqliteUtil.findContentTypeIds(contentIds);
-
+        // contentTypeId 설정은 기존 getSavedCourseDetails와 동일하게 적용
         SavedCourseDetailResponseDto responseDto = new SavedCourseDetailResponseDto(savedCourse);
         responseDto.getDays().forEach(dayDto -> {
             dayDto.getRoute().forEach(placeDto -> {
-                String contentTypeId = contentTypeMap.get(placeDto.getContentId());
-                placeDto.setContentTypeId(contentTypeId);
+                placeDto.setContentTypeId(sqliteUtil.findContentTypeId(placeDto.getContentId()));
             });
         });
 
@@ -9,7 +9,11 @@ import com.flowerguys.localpiece.domain.tour.dto.LdongCodeDto;
 import com.flowerguys.localpiece.domain.tour.dto.TourItemDto;
 import com.flowerguys.localpiece.domain.tour.dto.TourItemWithDistDto;
 import com.flowerguys.localpiece.domain.tour.dto.CommonInfoDto;
+import com.flowerguys.localpiece.domain.tour.dto.TourDetailDto;
+import com.flowerguys.localpiece.domain.tour.service.TourDetailService;
 import com.flowerguys.localpiece.domain.tour.service.TourService;
+import com.flowerguys.localpiece.global.common.ErrorCode;
+import com.flowerguys.localpiece.global.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,6 +32,11 @@ import java.util.List;
 public class TourController {
 
     private final TourService tourService;
+    private final TourDetailService tourDetailService;
+
+    // TourAPI locationBasedList2의 최대 반경 (m)
+    private static final int MAX_RADIUS_METERS = 20000;
+    private static final int MAX_NUM_OF_ROWS = 100;
 
     @GetMapping("/area-based")
     public ResponseEntity<List<TourItemDto>> getAreaBasedList(
@@ -41,6 +50,7 @@ public class TourController {
             @RequestParam(required = false) String lclsSystm3,
             @RequestParam(required = false) String modifiedtime) throws JsonProcessingException {
 
+        checkPaging(pageNo, numOfRows);
         List<TourItemDto> tourData = tourService.getAreaBasedList(
                 sigunguCode, contentTypeId, pageNo, numOfRows, arrange,
                 lclsSystm1, lclsSystm2, lclsSystm3, modifiedtime);
@@ -88,11 +98,18 @@ public class TourController {
             @RequestParam(required = false) String lclsSystm1,
             @RequestParam(required = false) String lclsSystm2,
             @RequestParam(required = false) String lclsSystm3,
-            @RequestParam(required = false) String modifiedtime) throws JsonProcessingException {
+            @RequestParam(required = false) String modifiedtime,
+            @RequestParam(defaultValue = "1") int pageNo,
+            @RequestParam(defaultValue = "10") int numOfRows) throws JsonProcessingException {
 
+        if (radius < 1 || radius > MAX_RADIUS_METERS) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT, "radius는 1 이상 " + MAX_RADIUS_METERS + " 이하여야 합니다.");
+        }
+        checkPaging(pageNo, numOfRows);
         List<TourItemWithDistDto> tourData = tourService.getLocationBasedList(
                 mapX, mapY, radius, arrange, contentTypeId,
-                lclsSystm1, lclsSystm2, lclsSystm3, modifiedtime);
+                lclsSystm1, lclsSystm2, lclsSystm3, modifiedtime,
+                pageNo, numOfRows);
         
         return ResponseEntity.ok(tourData);
     }
@@ -109,12 +126,14 @@ public class TourController {
             @RequestParam(required = false) String lclsSystm2,
             @RequestParam(required = false) String lclsSystm3,
             @RequestParam(defaultValue = "1") int pageNo,
-            @RequestParam(defaultValue = "12") int numOfRows) throws JsonProcessingException {
+            @RequestParam(defaultValue = "12") int numOfRows,
+            @RequestParam(defaultValue = "false") boolean local) throws JsonProcessingException {
 
+        checkPaging(pageNo, numOfRows);
         List<TourItemDto> tourData = tourService.searchKeyword(
                 keyword, arrange, contentTypeId,
                 lclsSystm1, lclsSystm2, lclsSystm3,
-                pageNo, numOfRows);
+                pageNo, numOfRows, local);
         
         return ResponseEntity.ok(tourData);
     }
@@ -133,6 +152,7 @@ public class TourController {
             @RequestParam(defaultValue = "1") int pageNo,
             @RequestParam(defaultValue = "12") int numOfRows) throws JsonProcessingException {
 
+        checkPaging(pageNo, numOfRows);
         List<EventItemDto> eventData = tourService.searchFestival(
                 eventStartDate, eventEndDate, arrange,
                 lclsSystm1, lclsSystm2, lclsSystm3,
@@ -153,6 +173,7 @@ public class TourController {
             @RequestParam(defaultValue = "1") int pageNo,
             @RequestParam(defaultValue = "12") int numOfRows) throws JsonProcessingException {
 
+        checkPaging(pageNo, numOfRows);
         List<TourItemDto> stayData = tourService.searchStay(
                 arrange, lclsSystm1, lclsSystm2, lclsSystm3,
                 pageNo, numOfRows);
@@ -172,6 +193,19 @@ public class TourController {
         return ResponseEntity.ok(petTourInfo);
     }
 
+    /**
+     * 상세 페이지 통합 조회 Controller (공통/소개/반복/이미지/반려동물 정보를 한 번에 조회)
+     */
+    @GetMapping("/detail/{contentId}")
+    public ResponseEntity<TourDetailDto> getPlaceDetail(
+            @PathVariable String contentId,
+            @RequestParam String contentTypeId) {
+
+        TourDetailDto detail = tourDetailService.getPlaceDetail(contentId, contentTypeId);
+
+        return ResponseEntity.ok(detail);
+    }
+
     /**
      * 공통정보 조회 Controller
      */
@@ -221,4 +255,13 @@ public class TourController {
         
         return ResponseEntity.ok(imageInfo);
     }
-}
\ No newline at end of file
+
+    private static void checkPaging(int pageNo, int numOfRows) {
+        if (pageNo < 1) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT, "pageNo는 1 이상이어야 합니다.");
+        }
+        if (numOfRows < 1 || numOfRows > MAX_NUM_OF_ROWS) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT, "numOfRows는 1 이상 " + MAX_NUM_OF_ROWS + " 이하여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.flowerguys.localpiece.domain.tour.dto;
+
+import java.util.List;
+
+/**
+ * TourAPI 목록 응답 한 페이지. totalCount는 조건에 맞는 전체 항목 수(response.body.totalCount)입니다.
+ */
+public record TourApiPage<T>(List<T> items, int totalCount) {
+}
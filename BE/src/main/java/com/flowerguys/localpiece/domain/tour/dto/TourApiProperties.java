@@ -5,6 +5,10 @@ import org.springframework.stereotype.Component;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 @Component
 @ConfigurationProperties(prefix = "tour-api")
 @Getter
@@ -12,4 +16,58 @@ import lombok.Setter;
 public class TourApiProperties {
     private String baseUrl;
     private String serviceKey;
+    // 상세 페이지 통합 조회의 전체 마감 시간
+    private Duration detailTimeout = Duration.ofSeconds(5);
+    private CacheSettings cache = new CacheSettings();
+    private MirrorSettings mirror = new MirrorSettings();
+    private ResilienceSettings resilience = new ResilienceSettings();
+
+    /**
+     * TourAPI 응답 캐시 설정 (tour-api.cache.*)
+     */
+    @Getter
+    @Setter
+    public static class CacheSettings {
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+        private Duration defaultTtl = Duration.ofMinutes(10);
+        // 엔드포인트 이름(예: detailCommon2) -> TTL
+        private Map<String, Duration> ttl = new HashMap<>();
+        // TTL이 지난 뒤에도 이 시간 동안은 오래된 응답을 먼저 돌려주고 백그라운드에서 갱신
+        private Duration staleTtl = Duration.ofHours(1);
+    }
+
+    /**
+     * 경북 관광정보 로컬 미러 설정 (tour-api.mirror.*)
+     */
+    @Getter
+    @Setter
+    public static class MirrorSettings {
+        // 미러가 준비되면 목록/검색 요청을 미러에서 응답
+        private boolean enabled = true;
+        private boolean syncEnabled = true;
+        private int pageSize = 1000;
+        // 마지막 동기화 이후 이 일수를 넘기면 증분 대신 전체 동기화
+        private int maxIncrementalDays = 31;
+        // 업스트림에서 삭제된 항목을 정리하기 위해 증분 동기화 중이라도 이 일수마다 전체 동기화
+        private int fullSyncIntervalDays = 7;
+    }
+
+    /**
+     * TourAPI 호출 보호 설정 (tour-api.resilience.*)
+     */
+    @Getter
+    @Setter
+    public static class ResilienceSettings {
+        // 업스트림으로 동시에 나갈 수 있는 최대 호출 수 (bulkhead)
+        private int maxConcurrentCalls = 20;
+        // 호출 슬롯을 기다리는 최대 시간
+        private Duration maxWait = Duration.ofMillis(200);
+        // 최근 호출 중 실패 비율(%)이 이 값 이상이면 회로를 엶
+        private int failureRateThreshold = 50;
+        private int slidingWindowSize = 20;
+        private int minimumCalls = 10;
+        // 회로가 열린 뒤 시험 호출을 허용하기까지의 시간
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
 }
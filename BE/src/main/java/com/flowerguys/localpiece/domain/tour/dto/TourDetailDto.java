@@ -0,0 +1,22 @@
+package com.flowerguys.localpiece.domain.tour.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 관광지 상세 페이지용 통합 응답 (공통/소개/반복/이미지/반려동물 정보)
+ * 일부 정보 조회에 실패하면 해당 항목은 비워두고 failedParts에 이름을 담습니다.
+ */
+@Getter
+@Builder
+public class TourDetailDto {
+
+    private CommonInfoDto common;
+    private IntroductionInfoDto intro;
+    private List<RepeatInfoDto> info;
+    private List<ImageInfoDto> images;
+    private PetTourInfoDto petTour;
+    private List<String> failedParts;
+}
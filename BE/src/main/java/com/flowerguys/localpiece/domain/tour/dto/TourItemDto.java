@@ -5,10 +5,12 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import lombok.experimental.SuperBuilder;
 
 @Getter
 @ToString
 @NoArgsConstructor
+@SuperBuilder // 로컬 미러(TourCatalogue)에서 DTO를 직접 생성하기 위해 사용
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class TourItemDto {
 
@@ -74,4 +76,29 @@ public class TourItemDto {
 
     @JsonProperty("lclsSystm3")
     private String lclsSystm3;
-}
\ No newline at end of file
+
+    // 하위 DTO(TourItemWithDistDto)가 기존 항목을 그대로 복사해 생성할 때 사용
+    protected TourItemDto(TourItemDto source) {
+        this.contentid = source.contentid;
+        this.contenttypeid = source.contenttypeid;
+        this.title = source.title;
+        this.addr1 = source.addr1;
+        this.addr2 = source.addr2;
+        this.zipcode = source.zipcode;
+        this.areacode = source.areacode;
+        this.sigungucode = source.sigungucode;
+        this.tel = source.tel;
+        this.firstimage = source.firstimage;
+        this.firstimage2 = source.firstimage2;
+        this.mapx = source.mapx;
+        this.mapy = source.mapy;
+        this.createdtime = source.createdtime;
+        this.modifiedtime = source.modifiedtime;
+        this.cpyrhtDivCd = source.cpyrhtDivCd;
+        this.lDongRegnCd = source.lDongRegnCd;
+        this.lDongSignguCd = source.lDongSignguCd;
+        this.lclsSystm1 = source.lclsSystm1;
+        this.lclsSystm2 = source.lclsSystm2;
+        this.lclsSystm3 = source.lclsSystm3;
+    }
+}
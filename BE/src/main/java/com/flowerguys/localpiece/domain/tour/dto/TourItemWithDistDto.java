@@ -14,4 +14,9 @@ public class TourItemWithDistDto extends TourItemDto {
 
     @JsonProperty("dist")
     private String dist; // 중심 좌표로부터의 거리 (단위: m)
+
+    public TourItemWithDistDto(TourItemDto item, double distMeters) {
+        super(item);
+        this.dist = String.valueOf(distMeters);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.flowerguys.localpiece.domain.tour.entity;
+
+import com.flowerguys.localpiece.domain.tour.dto.TourItemDto;
+import com.flowerguys.localpiece.global.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * TourAPI areaBasedList2로 동기화한 경북 관광정보 미러 항목
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "tour_catalogue_item")
+public class TourCatalogueItem extends BaseTimeEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "content_id")
+    private String contentid;
+
+    private String contenttypeid;
+
+    @Column(nullable = false)
+    private String title;
+
+    private String addr1;
+
+    private String addr2;
+
+    private String zipcode;
+
+    private String areacode;
+
+    private String sigungucode;
+
+    @Column(length = 500)
+    private String tel;
+
+    @Column(length = 500)
+    private String firstimage;
+
+    @Column(length = 500)
+    private String firstimage2;
+
+    private String mapx;
+
+    private String mapy;
+
+    private String createdtime;
+
+    private String modifiedtime;
+
+    private String cpyrhtDivCd;
+
+    private String lDongRegnCd;
+
+    private String lDongSignguCd;
+
+    private String lclsSystm1;
+
+    private String lclsSystm2;
+
+    private String lclsSystm3;
+
+    // 동기화 응답에서 마지막으로 확인된 시각. 전체 동기화 후 이 값이 오래된 항목은 업스트림에서 삭제된 것
+    private LocalDateTime lastSeenAt;
+
+    // contentid를 직접 할당하므로, 신규 여부를 알려 저장 시 불필요한 SELECT(merge)를 피함
+    @Transient
+    private boolean isNew = false;
+
+    public TourCatalogueItem(TourItemDto dto, LocalDateTime seenAt) {
+        this.contentid = dto.getContentid();
+        this.isNew = true;
+        update(dto, seenAt);
+    }
+
+    @Override
+    public String getId() {
+        return contentid;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public void update(TourItemDto dto, LocalDateTime seenAt) {
+        this.lastSeenAt = seenAt;
+        this.contenttypeid = dto.getContenttypeid();
+        this.title = dto.getTitle();
+        this.addr1 = dto.getAddr1();
+        this.addr2 = dto.getAddr2();
+        this.zipcode = dto.getZipcode();
+        this.areacode = dto.getAreacode();
+        this.sigungucode = dto.getSigungucode();
+        this.tel = dto.getTel();
+        this.firstimage = dto.getFirstimage();
+        this.firstimage2 = dto.getFirstimage2();
+        this.mapx = dto.getMapx();
+        this.mapy = dto.getMapy();
+        this.createdtime = dto.getCreatedtime();
+        this.modifiedtime = dto.getModifiedtime();
+        this.cpyrhtDivCd = dto.getCpyrhtDivCd();
+        this.lDongRegnCd = dto.getLDongRegnCd();
+        this.lDongSignguCd = dto.getLDongSignguCd();
+        this.lclsSystm1 = dto.getLclsSystm1();
+        this.lclsSystm2 = dto.getLclsSystm2();
+        this.lclsSystm3 = dto.getLclsSystm3();
+    }
+
+    public TourItemDto toDto() {
+        return TourItemDto.builder()
+                .contentid(contentid)
+                .contenttypeid(contenttypeid)
+                .title(title)
+                .addr1(addr1)
+                .addr2(addr2)
+                .zipcode(zipcode)
+                .areacode(areacode)
+                .sigungucode(sigungucode)
+                .tel(tel)
+                .firstimage(firstimage)
+                .firstimage2(firstimage2)
+                .mapx(mapx)
+                .mapy(mapy)
+                .createdtime(createdtime)
+                .modifiedtime(modifiedtime)
+                .cpyrhtDivCd(cpyrhtDivCd)
+                .lDongRegnCd(lDongRegnCd)
+                .lDongSignguCd(lDongSignguCd)
+                .lclsSystm1(lclsSystm1)
+                .lclsSystm2(lclsSystm2)
+                .lclsSystm3(lclsSystm3)
+                .build();
+    }
+}
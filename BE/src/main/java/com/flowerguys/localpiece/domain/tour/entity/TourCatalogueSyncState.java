@@ -0,0 +1,50 @@
+package com.flowerguys.localpiece.domain.tour.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * TourAPI 미러 동기화 진행 상태 (한 행만 사용).
+ * 동기화가 끝까지 성공했을 때만 갱신되므로, 중간에 실패한 동기화는 완료로 취급되지 않습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "tour_catalogue_sync_state")
+public class TourCatalogueSyncState {
+
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    // 마지막으로 끝까지 성공한 전체 동기화의 시작 시각 (null이면 아직 완료된 전체 동기화 없음)
+    private LocalDateTime lastFullSyncStartedAt;
+
+    // 이 날짜까지의 변경분이 반영됨 (전체/증분 동기화 완료일)
+    private LocalDate lastSyncedDate;
+
+    public static TourCatalogueSyncState initial() {
+        TourCatalogueSyncState state = new TourCatalogueSyncState();
+        state.id = SINGLETON_ID;
+        return state;
+    }
+
+    public boolean hasCompletedFullSync() {
+        return lastFullSyncStartedAt != null;
+    }
+
+    public void completeFullSync(LocalDateTime startedAt, LocalDate syncedDate) {
+        this.lastFullSyncStartedAt = startedAt;
+        this.lastSyncedDate = syncedDate;
+    }
+
+    public void completeIncrementalSync(LocalDate syncedDate) {
+        this.lastSyncedDate = syncedDate;
+    }
+}
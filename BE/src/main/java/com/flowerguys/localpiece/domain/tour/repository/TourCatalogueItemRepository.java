@@ -0,0 +1,20 @@
+package com.flowerguys.localpiece.domain.tour.repository;
+
+import com.flowerguys.localpiece.domain.tour.entity.TourCatalogueItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface TourCatalogueItemRepository extends JpaRepository<TourCatalogueItem, String> {
+
+    // 이번 전체 동기화에서 내려온 항목 수 (페이지 경계 중복 제외)
+    long countByLastSeenAtGreaterThanEqual(LocalDateTime syncStartedAt);
+
+    // 전체 동기화에서 내려오지 않은 항목(업스트림에서 삭제됨) 정리
+    @Modifying
+    @Query("DELETE FROM TourCatalogueItem t WHERE t.lastSeenAt IS NULL OR t.lastSeenAt < :syncStartedAt")
+    int deleteNotSeenSince(@Param("syncStartedAt") LocalDateTime syncStartedAt);
+}
@@ -0,0 +1,7 @@
+package com.flowerguys.localpiece.domain.tour.repository;
+
+import com.flowerguys.localpiece.domain.tour.entity.TourCatalogueSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TourCatalogueSyncStateRepository extends JpaRepository<TourCatalogueSyncState, Long> {
+}
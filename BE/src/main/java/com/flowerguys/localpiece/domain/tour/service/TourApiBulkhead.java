@@ -0,0 +1,59 @@
+package com.flowerguys.localpiece.domain.tour.service;
+
+import com.flowerguys.localpiece.domain.tour.dto.TourApiProperties;
+import com.flowerguys.localpiece.global.common.ErrorCode;
+import com.flowerguys.localpiece.global.common.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * TourAPI로 동시에 나가는 호출 수를 제한합니다.
+ * 업스트림이 느려져도 대기 중인 요청 스레드가 무한정 쌓이지 않고, 슬롯을 얻지 못한 요청은 바로 실패합니다.
+ */
+@Slf4j
+@Component
+public class TourApiBulkhead {
+
+    private final Semaphore permits;
+    private final Duration maxWait;
+    private final Counter rejectedCounter;
+
+    public TourApiBulkhead(TourApiProperties apiProperties, MeterRegistry meterRegistry) {
+        TourApiProperties.ResilienceSettings settings = apiProperties.getResilience();
+        this.permits = new Semaphore(settings.getMaxConcurrentCalls());
+        this.maxWait = settings.getMaxWait();
+        this.rejectedCounter = Counter.builder("tour.api.bulkhead.rejected")
+                .description("동시 호출 한도 초과로 거절된 TourAPI 호출 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("tour.api.bulkhead.available", permits, Semaphore::availablePermits);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        if (!acquire()) {
+            rejectedCounter.increment();
+            log.warn("TourAPI 동시 호출 한도 초과로 요청을 거절합니다.");
+            throw new BusinessException(ErrorCode.TOUR_API_UNAVAILABLE);
+        }
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
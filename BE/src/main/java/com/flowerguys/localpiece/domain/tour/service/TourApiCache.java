@@ -0,0 +1,123 @@
+package com.flowerguys.localpiece.domain.tour.service;
+
+import com.flowerguys.localpiece.domain.tour.dto.TourApiProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * TourAPI 응답(파싱된 item 목록)을 보관하는 프로세스 내 캐시.
+ * 키는 엔드포인트 경로 + 정렬된 쿼리 파라미터이며, TTL은 엔드포인트별로 다르게 적용됩니다.
+ * TTL이 지난 응답은 바로 지우지 않고 stale-ttl 동안 오래된 응답으로 남겨둡니다.
+ */
+@Slf4j
+@Component
+public class TourApiCache {
+
+    // 모든 요청에 공통으로 붙는 파라미터는 캐시 키에서 제외
+    private static final Set<String> IGNORED_PARAMS = Set.of("serviceKey", "MobileOS", "MobileApp", "_type");
+
+    private final TourApiProperties.CacheSettings settings;
+    private final Cache<String, CachedResponse> cache;
+
+    public TourApiCache(TourApiProperties apiProperties, MeterRegistry meterRegistry) {
+        this.settings = apiProperties.getCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+                        return retentionOf(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+                        return retentionOf(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size 등의 지표를 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tourApi");
+    }
+
+    /**
+     * 엔드포인트 경로와 쿼리 파라미터로 정규화된 캐시 키를 만듭니다.
+     */
+    public String createKey(String path, MultiValueMap<String, String> queryParams) {
+        Map<String, List<String>> sorted = new TreeMap<>(queryParams);
+        IGNORED_PARAMS.forEach(sorted::remove);
+
+        StringBuilder key = new StringBuilder(path);
+        char separator = '?';
+        for (Map.Entry<String, List<String>> entry : sorted.entrySet()) {
+            for (String value : entry.getValue()) {
+                key.append(separator).append(entry.getKey()).append('=').append(value);
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 캐시된 응답을 조회합니다. TTL이 지났지만 stale-ttl 이내인 응답은 stale=true로 반환합니다.
+     * 캐시에 없거나 캐시가 꺼져 있으면 null을 반환합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Lookup<T> lookup(String key) {
+        if (!settings.isEnabled()) {
+            return null;
+        }
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached == null) {
+            return null;
+        }
+        boolean stale = System.nanoTime() - cached.storedAt() > cached.ttl().toNanos();
+        return new Lookup<>((List<T>) cached.items(), stale);
+    }
+
+    public void put(String path, String key, List<?> items) {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        Duration ttl = ttlOf(path);
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        // 호출한 쪽이 반환받은 목록을 수정해도 캐시 항목이 바뀌지 않도록 복사해서 보관
+        cache.put(key, new CachedResponse(List.copyOf(items), ttl, System.nanoTime()));
+    }
+
+    public Duration ttlOf(String path) {
+        String endpoint = path.startsWith("/") ? path.substring(1) : path;
+        return settings.getTtl().getOrDefault(endpoint, settings.getDefaultTtl());
+    }
+
+    private long retentionOf(CachedResponse value) {
+        // TTL 이후에도 stale-ttl 동안은 보관하여 갱신 중이나 업스트림 장애 시 대신 사용
+        return value.ttl().plus(settings.getStaleTtl()).toNanos();
+    }
+
+    public record Lookup<T>(List<T> items, boolean stale) {
+    }
+
+    private record CachedResponse(List<?> items, Duration ttl, long storedAt) {
+    }
+}
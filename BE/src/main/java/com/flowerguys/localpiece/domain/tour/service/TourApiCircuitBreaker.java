@@ -0,0 +1,182 @@
+package com.flowerguys.localpiece.domain.tour.service;
+
+import com.flowerguys.localpiece.domain.tour.dto.TourApiProperties;
+import com.flowerguys.localpiece.global.common.ErrorCode;
+import com.flowerguys.localpiece.global.common.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * TourAPI 엔드포인트(operation)별 서킷 브레이커.
+ * 최근 호출의 실패 비율이 임계치를 넘으면 회로를 열어 일정 시간 동안 호출 없이 바로 실패시키고,
+ * 이후 한 건의 시험 호출이 성공하면 다시 닫습니다.
+ * 업스트림 연결/응답 오류와 결과 코드 오류(TOUR_API_ERROR)를 실패로 집계하며, 호출하는 쪽의 오류(4xx)는 집계하지 않습니다.
+ */
+@Slf4j
+@Component
+public class TourApiCircuitBreaker {
+
+    private final TourApiProperties.ResilienceSettings settings;
+    private final ConcurrentHashMap<String, Breaker> breakers = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public TourApiCircuitBreaker(TourApiProperties apiProperties, MeterRegistry meterRegistry) {
+        this.settings = apiProperties.getResilience();
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String operation, Supplier<T> call) {
+        Breaker breaker = breakers.computeIfAbsent(operation, this::createBreaker);
+        if (!breaker.tryAcquire()) {
+            breaker.rejectedCounter.increment();
+            throw new BusinessException(ErrorCode.TOUR_API_UNAVAILABLE);
+        }
+
+        try {
+            T result = call.get();
+            breaker.onSuccess();
+            return result;
+        } catch (BusinessException e) {
+            if (isCallerError(e)) {
+                breaker.onIgnored();
+            } else {
+                breaker.onFailure();
+            }
+            throw e;
+        } catch (Throwable e) {
+            // Error가 나도 시험 호출 슬롯이 풀리도록 모든 예외를 실패로 집계
+            breaker.onFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * 잘못된 파라미터처럼 호출하는 쪽의 문제(4xx)인지 여부.
+     * TOUR_API_ERROR(업스트림 결과 코드 오류) 등 나머지는 업스트림 장애로 보고 실패로 집계합니다.
+     */
+    private boolean isCallerError(BusinessException e) {
+        return e.getErrorCode().getStatus().is4xxClientError();
+    }
+
+    private Breaker createBreaker(String operation) {
+        Breaker breaker = new Breaker(operation, Counter.builder("tour.api.circuit.rejected")
+                .description("회로가 열려 있어 호출하지 않고 거절한 TourAPI 요청 수")
+                .tag("operation", operation)
+                .register(meterRegistry));
+        // 0=CLOSED, 1=OPEN, 2=HALF_OPEN
+        meterRegistry.gauge("tour.api.circuit.state", List.of(Tag.of("operation", operation)),
+                breaker, b -> b.state.ordinal());
+        return breaker;
+    }
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final class Breaker {
+        private final String operation;
+        private final Counter rejectedCounter;
+        // 최근 slidingWindowSize건의 결과 (true=실패)
+        private final boolean[] window = new boolean[settings.getSlidingWindowSize()];
+        private int windowIndex;
+        private int recordedCalls;
+        private int failedCalls;
+
+        private State state = State.CLOSED;
+        private long openedAt;
+        private boolean trialInFlight;
+
+        private Breaker(String operation, Counter rejectedCounter) {
+            this.operation = operation;
+            this.rejectedCounter = rejectedCounter;
+        }
+
+        private synchronized boolean tryAcquire() {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.nanoTime() - openedAt < settings.getOpenDuration().toNanos()) {
+                        return false;
+                    }
+                    state = State.HALF_OPEN;
+                    trialInFlight = true;
+                    log.info("TourAPI 서킷 시험 호출: operation={}", operation);
+                    return true;
+                default:
+                    // HALF_OPEN: 시험 호출은 한 건만 허용
+                    if (trialInFlight) {
+                        return false;
+                    }
+                    trialInFlight = true;
+                    return true;
+            }
+        }
+
+        private synchronized void onSuccess() {
+            if (state == State.HALF_OPEN) {
+                log.info("TourAPI 서킷 닫힘: operation={}", operation);
+                close();
+                return;
+            }
+            record(false);
+        }
+
+        private synchronized void onFailure() {
+            if (state == State.HALF_OPEN) {
+                open();
+                return;
+            }
+            record(true);
+            if (state == State.CLOSED
+                    && recordedCalls >= settings.getMinimumCalls()
+                    && failedCalls * 100 >= settings.getFailureRateThreshold() * recordedCalls) {
+                open();
+            }
+        }
+
+        private synchronized void onIgnored() {
+            // 업스트림 장애가 아닌 실패는 집계하지 않되, 시험 호출이었다면 응답은 온 것이므로 닫음
+            if (state == State.HALF_OPEN) {
+                close();
+            }
+        }
+
+        private void record(boolean failed) {
+            if (recordedCalls == window.length) {
+                if (window[windowIndex]) {
+                    failedCalls--;
+                }
+            } else {
+                recordedCalls++;
+            }
+            window[windowIndex] = failed;
+            if (failed) {
+                failedCalls++;
+            }
+            windowIndex = (windowIndex + 1) % window.length;
+        }
+
+        private void open() {
+            log.warn("TourAPI 서킷 열림: operation={}, 최근 실패 {}/{}건", operation, failedCalls, recordedCalls);
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            trialInFlight = false;
+        }
+
+        private void close() {
+            state = State.CLOSED;
+            trialInFlight = false;
+            windowIndex = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+            Arrays.fill(window, false);
+        }
+    }
+}
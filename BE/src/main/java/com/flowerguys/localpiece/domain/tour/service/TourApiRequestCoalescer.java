@@ -0,0 +1,70 @@
+package com.flowerguys.localpiece.domain.tour.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 TourAPI 요청이 동시에 들어오면 업스트림 호출은 한 번만 수행하고,
+ * 나머지 호출자는 그 결과(또는 예외)를 함께 받도록 묶어주는 single-flight 처리기.
+ */
+@Slf4j
+@Component
+public class TourApiRequestCoalescer {
+
+    private final ConcurrentHashMap<String, CompletableFuture<List<?>>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedCounter;
+
+    public TourApiRequestCoalescer(MeterRegistry meterRegistry) {
+        this.coalescedCounter = Counter.builder("tour.api.coalesced")
+                .description("진행 중인 동일 요청에 합류하여 업스트림 호출을 생략한 횟수")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("tour.api.in-flight", List.of(), inFlight);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> List<T> execute(String key, Supplier<List<T>> loader) {
+        CompletableFuture<List<?>> call = new CompletableFuture<>();
+        CompletableFuture<List<?>> existing = inFlight.putIfAbsent(key, call);
+
+        if (existing != null) {
+            // 이미 같은 요청이 진행 중이면 그 결과를 기다림
+            coalescedCounter.increment();
+            log.debug("TourAPI 요청 합류: {}", key);
+            return (List<T>) await(existing);
+        }
+
+        try {
+            List<T> result = loader.get();
+            call.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Error까지 포함해 항상 future를 완료시켜야 합류한 호출자가 무한 대기하지 않음
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private List<?> await(CompletableFuture<List<?>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
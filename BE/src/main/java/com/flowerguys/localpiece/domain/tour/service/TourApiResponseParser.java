@@ -0,0 +1,144 @@
+package com.flowerguys.localpiece.domain.tour.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.flowerguys.localpiece.domain.tour.dto.TourApiPage;
+import com.flowerguys.localpiece.global.common.ErrorCode;
+import com.flowerguys.localpiece.global.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TourAPI JSON 응답을 스트리밍으로 읽어 item 목록을 바로 DTO로 변환합니다.
+ * 응답 전체를 문자열이나 JsonNode 트리로 만들지 않고, response.header.resultCode를 검증하면서
+ * response.body.items.item 배열의 원소만 하나씩 바인딩합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TourApiResponseParser {
+
+    private static final String SUCCESS_CODE = "0000";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * item 목록과 함께 response.body.totalCount를 읽습니다. (없으면 0)
+     */
+    public <T> TourApiPage<T> parsePage(InputStream body, Class<T> itemClass) throws IOException {
+        ParseState<T> state = new ParseState<>(objectMapper.readerFor(itemClass));
+
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("TourAPI 응답이 JSON 객체가 아닙니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("response".equals(field) && value == JsonToken.START_OBJECT) {
+                    readResponse(parser, state);
+                } else if ("resultCode".equals(field) || "resultMsg".equals(field)) {
+                    // 파라미터 오류 등은 response 없이 최상위에 결과 코드만 내려옴
+                    state.setResult(field, parser.getValueAsString());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        state.verify();
+        return new TourApiPage<>(state.items, state.totalCount);
+    }
+
+    private <T> void readResponse(JsonParser parser, ParseState<T> state) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("header".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    parser.nextToken();
+                    if ("resultCode".equals(name) || "resultMsg".equals(name)) {
+                        state.setResult(name, parser.getValueAsString());
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                // 헤더가 먼저 오는 일반적인 경우, 본문을 읽기 전에 실패를 확정
+                if (state.resultCode != null) {
+                    state.verify();
+                }
+            } else if ("body".equals(field) && value == JsonToken.START_OBJECT) {
+                readBody(parser, state);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private <T> void readBody(JsonParser parser, ParseState<T> state) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            // 결과가 없으면 items가 빈 문자열("")로 내려옴
+            if ("items".equals(field) && value == JsonToken.START_OBJECT) {
+                readItems(parser, state);
+            } else if ("totalCount".equals(field)) {
+                state.totalCount = parser.getValueAsInt();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private <T> void readItems(JsonParser parser, ParseState<T> state) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("item".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    state.items.add(state.reader.readValue(parser));
+                }
+            } else if ("item".equals(field) && value == JsonToken.START_OBJECT) {
+                state.items.add(state.reader.readValue(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static final class ParseState<T> {
+        private final ObjectReader reader;
+        private final List<T> items = new ArrayList<>();
+        private int totalCount;
+        private String resultCode;
+        private String resultMsg;
+
+        private ParseState(ObjectReader reader) {
+            this.reader = reader;
+        }
+
+        private void setResult(String name, String value) {
+            if ("resultCode".equals(name)) {
+                resultCode = value;
+            } else {
+                resultMsg = value;
+            }
+        }
+
+        private void verify() {
+            if (!SUCCESS_CODE.equals(resultCode)) {
+                log.error("TourAPI 에러 응답: resultCode={}, resultMsg={}", resultCode, resultMsg);
+                throw new BusinessException(ErrorCode.TOUR_API_ERROR);
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.flowerguys.localpiece.domain.tour.service;
+
+import com.flowerguys.localpiece.domain.tour.dto.TourApiProperties;
+import com.flowerguys.localpiece.domain.tour.dto.TourItemDto;
+import com.flowerguys.localpiece.domain.tour.dto.TourItemWithDistDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 동기화된 경북 관광정보 미러의 메모리 스냅샷.
+ * 스냅샷은 동기화가 끝날 때마다 통째로 교체되며, 조회는 락 없이 수행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TourCatalogue {
+
+    private static final String STAY_CONTENT_TYPE_ID = "32";
+
+    private final TourApiProperties apiProperties;
+
+    private volatile List<TourItemDto> items = List.of();
+    private volatile TourSpatialIndex spatialIndex = TourSpatialIndex.empty();
+    // 전체 동기화가 한 번이라도 끝까지 성공했는지. 중간에 실패한 부분 미러로는 응답하지 않음
+    private volatile boolean fullySynced;
+
+    public boolean isServable() {
+        return apiProperties.getMirror().isEnabled() && fullySynced && !items.isEmpty();
+    }
+
+    public List<TourItemDto> getItems() {
+        return items;
+    }
+
+    public void replace(List<TourItemDto> newItems, boolean fullySynced) {
+        List<TourItemDto> snapshot = List.copyOf(newItems);
+        TourSpatialIndex newIndex = TourSpatialIndex.build(snapshot);
+
+        // 인덱스를 먼저 교체해도 항목 번호는 자신이 만든 스냅샷 기준이므로 안전
+        this.spatialIndex = newIndex;
+        this.items = snapshot;
+        this.fullySynced = fullySynced;
+        log.info("TourCatalogue 스냅샷 교체 완료. 항목 수: {}, 좌표 인덱스 항목 수: {}", snapshot.size(), newIndex.size());
+    }
+
+    /**
+     * 위치기반 관광정보 조회 (locationBasedList2 대체)
+     * arrange: A=제목순, C=수정일순, D=생성일순, E=거리순, O/Q/R/S=대표이미지가 있는 A/C/D/E
+     */
+    public List<TourItemWithDistDto> findNearby(
+            double mapX, double mapY, int radius, String arrange, String contentTypeId,
+            String lclsSystm1, String lclsSystm2, String lclsSystm3, String modifiedtime,
+            int pageNo, int numOfRows) {
+
+        TourSpatialIndex index = this.spatialIndex;
+        Predicate<TourItemDto> filter = matches(contentTypeId, TourItemDto::getContenttypeid)
+                .and(classifiedAs(lclsSystm1, lclsSystm2, lclsSystm3));
+        if (StringUtils.hasText(modifiedtime)) {
+            filter = filter.and(item -> item.getModifiedtime() != null && item.getModifiedtime().startsWith(modifiedtime));
+        }
+
+        String order = StringUtils.hasText(arrange) ? arrange.toUpperCase(Locale.ROOT) : "E";
+        if ("O".equals(order) || "Q".equals(order) || "R".equals(order) || "S".equals(order)) {
+            filter = filter.and(item -> StringUtils.hasText(item.getFirstimage()));
+        }
+
+        List<TourItemWithDistDto> hits = new ArrayList<>();
+        Predicate<TourItemDto> finalFilter = filter;
+        index.searchRadius(mapX, mapY, radius, (itemIndex, distance) -> {
+            TourItemDto item = index.item(itemIndex);
+            if (finalFilter.test(item)) {
+                hits.add(new TourItemWithDistDto(item, distance));
+            }
+        });
+
+        Comparator<TourItemWithDistDto> comparator = switch (order) {
+            case "A", "O" -> Comparator.comparing(TourItemDto::getTitle, Comparator.nullsLast(Comparator.<String>naturalOrder()));
+            case "C", "Q" -> Comparator.comparing(TourItemDto::getModifiedtime, Comparator.nullsLast(Comparator.<String>reverseOrder()));
+            case "D", "R" -> Comparator.comparing(TourItemDto::getCreatedtime, Comparator.nullsLast(Comparator.<String>reverseOrder()));
+            default -> Comparator.comparingDouble(hit -> Double.parseDouble(hit.getDist()));
+        };
+
+        return hits.stream()
+                .sorted(comparator)
+                .skip((long) Math.max(pageNo - 1, 0) * numOfRows)
+                .limit(numOfRows)
+                .toList();
+    }
+
+    /**
+     * 지역기반 관광정보 조회 (areaBasedList2 대체)
+     */
+    public List<TourItemDto> findAreaBased(
+            String sigunguCode, String contentTypeId, int pageNo, int numOfRows, String arrange,
+            String lclsSystm1, String lclsSystm2, String lclsSystm3, String modifiedtime) {
+
+        Stream<TourItemDto> stream = items.stream()
+                .filter(matches(sigunguCode, TourItemDto::getLDongSignguCd))
+                .filter(matches(contentTypeId, TourItemDto::getContenttypeid))
+                .filter(classifiedAs(lclsSystm1, lclsSystm2, lclsSystm3));
+
+        if (StringUtils.hasText(modifiedtime)) {
+            stream = stream.filter(item -> item.getModifiedtime() != null && item.getModifiedtime().startsWith(modifiedtime));
+        }
+        return arrangeAndPage(stream, arrange, pageNo, numOfRows);
+    }
+
+    /**
+     * 숙박정보 조회 (searchStay2 대체)
+     */
+    public List<TourItemDto> searchStay(
+            String arrange, String lclsSystm1, String lclsSystm2, String lclsSystm3,
+            int pageNo, int numOfRows) {
+
+        Stream<TourItemDto> stream = items.stream()
+                .filter(item -> STAY_CONTENT_TYPE_ID.equals(item.getContenttypeid()))
+                .filter(classifiedAs(lclsSystm1, lclsSystm2, lclsSystm3));
+
+        return arrangeAndPage(stream, arrange, pageNo, numOfRows);
+    }
+
+    /**
+     * 키워드 검색 (searchKeyword2 대체, 제목 부분 일치)
+     */
+    public List<TourItemDto> searchKeyword(
+            String keyword, String arrange, String contentTypeId,
+            String lclsSystm1, String lclsSystm2, String lclsSystm3,
+            int pageNo, int numOfRows) {
+
+        String normalizedKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+        Stream<TourItemDto> stream = items.stream()
+                .filter(item -> item.getTitle() != null && item.getTitle().toLowerCase(Locale.ROOT).contains(normalizedKeyword))
+                .filter(matches(contentTypeId, TourItemDto::getContenttypeid))
+                .filter(classifiedAs(lclsSystm1, lclsSystm2, lclsSystm3));
+
+        return arrangeAndPage(stream, arrange, pageNo, numOfRows);
+    }
+
+    private static Predicate<TourItemDto> matches(String expected, Function<TourItemDto, String> getter) {
+        if (!StringUtils.hasText(expected)) {
+            return item -> true;
+        }
+        return item -> expected.equals(getter.apply(item));
+    }
+
+    private static Predicate<TourItemDto> classifiedAs(String lclsSystm1, String lclsSystm2, String lclsSystm3) {
+        return matches(lclsSystm1, TourItemDto::getLclsSystm1)
+                .and(matches(lclsSystm2, TourItemDto::getLclsSystm2))
+                .and(matches(lclsSystm3, TourItemDto::getLclsSystm3));
+    }
+
+    /**
+     * TourAPI arrange 규칙: A=제목순, C=수정일순, D=생성일순, O/Q/R=대표이미지가 있는 A/C/D
+     */
+    private static List<TourItemDto> arrangeAndPage(Stream<TourItemDto> stream, String arrange, int pageNo, int numOfRows) {
+        String order = StringUtils.hasText(arrange) ? arrange.toUpperCase(Locale.ROOT) : "A";
+
+        if ("O".equals(order) || "Q".equals(order) || "R".equals(order)) {
+            stream = stream.filter(item -> StringUtils.hasText(item.getFirstimage()));
+        }
+
+        Comparator<TourItemDto> comparator = switch (order) {
+            case "C", "Q" -> Comparator.comparing(TourItemDto::getModifiedtime, Comparator.nullsLast(Comparator.<String>reverseOrder()));
+            case "D", "R" -> Comparator.comparing(TourItemDto::getCreatedtime, Comparator.nullsLast(Comparator.<String>reverseOrder()));
+            default -> Comparator.comparing(TourItemDto::getTitle, Comparator.nullsLast(Comparator.<String>naturalOrder()));
+        };
+
+        return stream.sorted(comparator)
+                .skip((long) Math.max(pageNo - 1, 0) * numOfRows)
+                .limit(numOfRows)
+                .toList();
+    }
+}
@@ -0,0 +1,188 @@
+package com.flowerguys.localpiece.domain.tour.service;
+
+import com.flowerguys.localpiece.domain.tour.dto.TourApiPage;
+import com.flowerguys.localpiece.domain.tour.dto.TourApiProperties;
+import com.flowerguys.localpiece.domain.tour.dto.TourItemDto;
+import com.flowerguys.localpiece.domain.tour.entity.TourCatalogueItem;
+import com.flowerguys.localpiece.domain.tour.entity.TourCatalogueSyncState;
+import com.flowerguys.localpiece.domain.tour.repository.TourCatalogueItemRepository;
+import com.flowerguys.localpiece.domain.tour.repository.TourCatalogueSyncStateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 경북(lDongRegnCd=47) 관광정보를 areaBasedList2로 페이지 단위 조회하여 로컬 미러에 저장합니다.
+ * 마지막 동기화일 이후 날짜별 modifiedtime 조회로 변경분만 가져오고,
+ * 공백이 길거나 전체 동기화 주기가 지나면 전체 동기화 후 내려오지 않은 항목을 삭제합니다.
+ * 삭제는 전체 동기화에서 받은 항목 수가 응답의 totalCount에 도달했을 때만 수행합니다.
+ * 진행 상태는 tour_catalogue_sync_state에 저장하며, 끝까지 성공한 동기화만 기록합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TourCatalogueSyncService {
+
+    private final TourService tourService;
+    private final TourCatalogue tourCatalogue;
+    private final TourCatalogueItemRepository catalogueItemRepository;
+    private final TourCatalogueSyncStateRepository syncStateRepository;
+    private final TourApiProperties apiProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        synchronized (this) {
+            reloadCatalogue(loadState().hasCompletedFullSync());
+        }
+
+        if (apiProperties.getMirror().isSyncEnabled()) {
+            synchronize();
+        }
+    }
+
+    @Scheduled(cron = "${tour-api.mirror.sync-cron:0 0 4 * * *}")
+    public void scheduledSync() {
+        if (apiProperties.getMirror().isSyncEnabled()) {
+            synchronize();
+        }
+    }
+
+    public synchronized void synchronize() {
+        LocalDate today = LocalDate.now();
+        TourCatalogueSyncState state = loadState();
+
+        try {
+            int upserted = 0;
+            if (needsFullSync(state, today)) {
+                LocalDateTime startedAt = LocalDateTime.now();
+                log.info("TourAPI 미러 전체 동기화 시작");
+                SyncedPages synced = syncPages(null, startedAt);
+                upserted = synced.upserted();
+                if (upserted == 0) {
+                    // 업스트림 이상으로 빈 응답이 오면 기존 미러를 모두 지우지 않도록 실패로 처리
+                    throw new IllegalStateException("전체 동기화 응답이 비어 있습니다.");
+                }
+                long seen = catalogueItemRepository.countByLastSeenAtGreaterThanEqual(startedAt);
+                if (synced.totalCount() == 0 || seen < synced.totalCount()) {
+                    // 동기화 중 추가/삭제로 페이지가 밀려 빠진 항목이 있을 수 있으므로 삭제하지 않고 다음 주기에 다시 전체 동기화
+                    log.warn("TourAPI 미러 전체 동기화 불완전. 수신 항목 수: {}, totalCount: {}. 삭제를 건너뜁니다.",
+                            seen, synced.totalCount());
+                } else {
+                    int removed = transactionTemplate.execute(status -> {
+                        int deleted = catalogueItemRepository.deleteNotSeenSince(startedAt);
+                        state.completeFullSync(startedAt, today);
+                        syncStateRepository.save(state);
+                        return deleted;
+                    });
+                    log.info("TourAPI 미러 전체 동기화 완료. 반영 항목 수: {}, 삭제 항목 수: {}", upserted, removed);
+                    upserted += removed;
+                }
+            } else {
+                LocalDateTime seenAt = LocalDateTime.now();
+                log.info("TourAPI 미러 증분 동기화 시작. 기준일: {}", state.getLastSyncedDate());
+                // 기준일 당일도 다시 조회하여 그날 이후 변경분까지 포함
+                for (LocalDate date = state.getLastSyncedDate(); !date.isAfter(today); date = date.plusDays(1)) {
+                    upserted += syncPages(date.format(DateTimeFormatter.BASIC_ISO_DATE), seenAt).upserted();
+                }
+                state.completeIncrementalSync(today);
+                transactionTemplate.executeWithoutResult(status -> syncStateRepository.save(state));
+                log.info("TourAPI 미러 증분 동기화 완료. 반영 항목 수: {}", upserted);
+            }
+
+            if (upserted > 0 || !tourCatalogue.isServable()) {
+                reloadCatalogue(state.hasCompletedFullSync());
+            }
+        } catch (Exception e) {
+            // 동기화 실패 시 기존 미러와 상태를 유지하고 다음 주기에 재시도 (완료되지 않은 전체 동기화는 다시 처음부터)
+            log.error("TourAPI 미러 동기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean needsFullSync(TourCatalogueSyncState state, LocalDate today) {
+        TourApiProperties.MirrorSettings mirror = apiProperties.getMirror();
+        if (!state.hasCompletedFullSync() || state.getLastSyncedDate() == null) {
+            return true;
+        }
+        if (ChronoUnit.DAYS.between(state.getLastSyncedDate(), today) > mirror.getMaxIncrementalDays()) {
+            return true;
+        }
+        return ChronoUnit.DAYS.between(state.getLastFullSyncStartedAt().toLocalDate(), today) >= mirror.getFullSyncIntervalDays();
+    }
+
+    private TourCatalogueSyncState loadState() {
+        return syncStateRepository.findById(TourCatalogueSyncState.SINGLETON_ID)
+                .orElseGet(TourCatalogueSyncState::initial);
+    }
+
+    private SyncedPages syncPages(String modifiedtime, LocalDateTime seenAt) {
+        int pageSize = apiProperties.getMirror().getPageSize();
+        int pageNo = 1;
+        int total = 0;
+        int totalCount = 0;
+
+        while (true) {
+            TourApiPage<TourItemDto> page = tourService.fetchCataloguePage(pageNo, pageSize, modifiedtime);
+            // 동기화 중 항목이 늘어나면 뒤 페이지의 totalCount가 커지므로 가장 큰 값을 기준으로 삼음
+            totalCount = Math.max(totalCount, page.totalCount());
+            List<TourItemDto> items = page.items();
+            if (items.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> upsert(items, seenAt));
+            total += items.size();
+
+            if (items.size() < pageSize) {
+                break;
+            }
+            pageNo++;
+        }
+        return new SyncedPages(total, totalCount);
+    }
+
+    private void upsert(List<TourItemDto> page, LocalDateTime seenAt) {
+        // 페이지 경계에서 같은 항목이 중복으로 내려올 수 있어 contentid 기준으로 정리
+        Map<String, TourItemDto> distinct = page.stream()
+                .collect(Collectors.toMap(TourItemDto::getContentid, Function.identity(), (a, b) -> b, LinkedHashMap::new));
+        Map<String, TourCatalogueItem> existing = catalogueItemRepository.findAllById(distinct.keySet()).stream()
+                .collect(Collectors.toMap(TourCatalogueItem::getContentid, Function.identity()));
+
+        List<TourCatalogueItem> newItems = new ArrayList<>();
+        for (TourItemDto dto : distinct.values()) {
+            TourCatalogueItem item = existing.get(dto.getContentid());
+            if (item != null) {
+                item.update(dto, seenAt); // 변경 감지로 반영
+            } else {
+                newItems.add(new TourCatalogueItem(dto, seenAt));
+            }
+        }
+        catalogueItemRepository.saveAll(newItems);
+    }
+
+    private void reloadCatalogue(boolean fullySynced) {
+        List<TourItemDto> items = catalogueItemRepository.findAll().stream()
+                .map(TourCatalogueItem::toDto)
+                .toList();
+        tourCatalogue.replace(items, fullySynced);
+    }
+
+    private record SyncedPages(int upserted, int totalCount) {
+    }
+}
@@ -0,0 +1,224 @@
+package com.flowerguys.localpiece.domain.tour.service;
+
+import com.flowerguys.localpiece.domain.tour.dto.CategoryCodeDto;
+import com.flowerguys.localpiece.domain.tour.dto.LdongCodeDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 법정동(ldongCode2)과 분류체계(lclsSystmCode2) 코드표의 메모리 저장소.
+ * 부모 코드 -> 자식 코드 목록 형태의 불변 트리로 보관하며, 새로 읽어온 코드표로 통째로 교체됩니다.
+ * 조회 시 I/O가 없으므로 다른 서비스에서 코드 -> 이름 변환에 자유롭게 사용할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class TourCodeRegistry {
+
+    private volatile CodeTree ldongTree = CodeTree.EMPTY;
+    private volatile CodeTree categoryTree = CodeTree.EMPTY;
+
+    public boolean isLoaded() {
+        return !ldongTree.isEmpty() && !categoryTree.isEmpty();
+    }
+
+    /**
+     * lDongListYn=Y 형식의 전체 법정동 목록으로 코드표를 교체합니다.
+     * 시/군/구 코드는 시/도 안에서만 유일하므로 트리 키는 시/도 코드 + 시/군/구 코드를 사용합니다.
+     */
+    public void replaceLdongCodes(List<LdongCodeDto> rows) {
+        CodeTree.Builder builder = new CodeTree.Builder();
+        for (LdongCodeDto row : rows) {
+            builder.add(null, row.getLDongRegnCd(), row.getLDongRegnNm());
+            builder.add(row.getLDongRegnCd(), row.getLDongRegnCd() + row.getLDongSignguCd(), row.getLDongSignguNm());
+        }
+        this.ldongTree = builder.build();
+        log.info("법정동 코드표 교체 완료. 코드 수: {}", ldongTree.size());
+    }
+
+    /**
+     * lclsSystmListYn=Y 형식의 전체 분류체계 목록으로 코드표를 교체합니다.
+     * 분류 코드는 상위 코드를 접두어로 가지므로(EV -> EV01 -> EV010100) 그대로 트리 키로 사용합니다.
+     */
+    public void replaceCategoryCodes(List<CategoryCodeDto> rows) {
+        CodeTree.Builder builder = new CodeTree.Builder();
+        for (CategoryCodeDto row : rows) {
+            builder.add(null, row.getLclsSystm1Cd(), row.getLclsSystm1Nm());
+            builder.add(row.getLclsSystm1Cd(), row.getLclsSystm2Cd(), row.getLclsSystm2Nm());
+            builder.add(row.getLclsSystm2Cd(), row.getLclsSystm3Cd(), row.getLclsSystm3Nm());
+        }
+        this.categoryTree = builder.build();
+        log.info("분류체계 코드표 교체 완료. 코드 수: {}", categoryTree.size());
+    }
+
+    /**
+     * ldongCode2 응답과 같은 형식으로 법정동 코드를 조회합니다.
+     * lDongListYn=N: 시/도 코드가 없으면 시/도 목록, 있으면 해당 시/도의 시/군/구 목록
+     * lDongListYn=Y: 시/도+시/군/구 전체 목록 (시/도 코드가 있으면 해당 시/도만)
+     */
+    public List<LdongCodeDto> getLdongCodes(String lDongRegnCd, String lDongListYn) {
+        CodeTree tree = this.ldongTree;
+        List<LdongCodeDto> result = new ArrayList<>();
+
+        if ("Y".equalsIgnoreCase(lDongListYn)) {
+            for (CodeNode region : tree.children(null)) {
+                if (StringUtils.hasText(lDongRegnCd) && !lDongRegnCd.equals(region.code())) {
+                    continue;
+                }
+                for (CodeNode sigungu : tree.children(region.code())) {
+                    result.add(LdongCodeDto.builder()
+                            .lDongRegnCd(region.code())
+                            .lDongRegnNm(region.name())
+                            .lDongSignguCd(sigungu.code().substring(region.code().length()))
+                            .lDongSignguNm(sigungu.name())
+                            .rnum(result.size() + 1)
+                            .build());
+                }
+            }
+            return result;
+        }
+
+        String parent = StringUtils.hasText(lDongRegnCd) ? lDongRegnCd : null;
+        for (CodeNode node : tree.children(parent)) {
+            String code = parent == null ? node.code() : node.code().substring(parent.length());
+            result.add(LdongCodeDto.builder()
+                    .code(code)
+                    .name(node.name())
+                    .rnum(result.size() + 1)
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * lclsSystmCode2 응답과 같은 형식으로 분류체계 코드를 조회합니다.
+     * lclsSystmListYn=N: 파라미터가 없으면 대분류, lclsSystm1이면 중분류, lclsSystm2까지 있으면 소분류 목록
+     * lclsSystmListYn=Y: 대/중/소분류 전체 목록 (주어진 상위 분류로 필터링)
+     */
+    public List<CategoryCodeDto> getCategoryCodes(String lclsSystm1, String lclsSystm2, String lclsSystmListYn) {
+        CodeTree tree = this.categoryTree;
+        List<CategoryCodeDto> result = new ArrayList<>();
+
+        if ("Y".equalsIgnoreCase(lclsSystmListYn)) {
+            for (CodeNode level1 : tree.children(null)) {
+                if (StringUtils.hasText(lclsSystm1) && !lclsSystm1.equals(level1.code())) {
+                    continue;
+                }
+                for (CodeNode level2 : tree.children(level1.code())) {
+                    if (StringUtils.hasText(lclsSystm2) && !lclsSystm2.equals(level2.code())) {
+                        continue;
+                    }
+                    for (CodeNode level3 : tree.children(level2.code())) {
+                        result.add(CategoryCodeDto.builder()
+                                .lclsSystm1Cd(level1.code())
+                                .lclsSystm1Nm(level1.name())
+                                .lclsSystm2Cd(level2.code())
+                                .lclsSystm2Nm(level2.name())
+                                .lclsSystm3Cd(level3.code())
+                                .lclsSystm3Nm(level3.name())
+                                .rnum(result.size() + 1)
+                                .build());
+                    }
+                }
+            }
+            return result;
+        }
+
+        String parent = StringUtils.hasText(lclsSystm2) ? lclsSystm2
+                : StringUtils.hasText(lclsSystm1) ? lclsSystm1 : null;
+        for (CodeNode node : tree.children(parent)) {
+            result.add(CategoryCodeDto.builder()
+                    .code(node.code())
+                    .name(node.name())
+                    .rnum(result.size() + 1)
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 시/도 코드 -> 이름 (예: 47 -> 경상북도)
+     */
+    public Optional<String> findRegionName(String lDongRegnCd) {
+        return ldongTree.name(lDongRegnCd);
+    }
+
+    /**
+     * 시/도 + 시/군/구 코드 -> 시/군/구 이름 (예: 47, 130 -> 경주시)
+     */
+    public Optional<String> findSigunguName(String lDongRegnCd, String lDongSignguCd) {
+        if (lDongRegnCd == null || lDongSignguCd == null) {
+            return Optional.empty();
+        }
+        return ldongTree.name(lDongRegnCd + lDongSignguCd);
+    }
+
+    /**
+     * 대/중/소분류 코드 -> 이름 (예: EV -> 축제/공연/행사)
+     */
+    public Optional<String> findCategoryName(String lclsSystmCode) {
+        return categoryTree.name(lclsSystmCode);
+    }
+
+    private record CodeNode(String code, String name) {
+    }
+
+    /**
+     * 부모 코드(최상위는 null)별 자식 코드 목록을 담는 불변 트리
+     */
+    private static final class CodeTree {
+
+        private static final CodeTree EMPTY = new CodeTree(Map.of(), Map.of());
+
+        private final Map<String, List<CodeNode>> childrenByParent;
+        private final Map<String, CodeNode> nodesByCode;
+
+        private CodeTree(Map<String, List<CodeNode>> childrenByParent, Map<String, CodeNode> nodesByCode) {
+            this.childrenByParent = childrenByParent;
+            this.nodesByCode = nodesByCode;
+        }
+
+        private List<CodeNode> children(String parentCode) {
+            return childrenByParent.getOrDefault(parentCode == null ? "" : parentCode, List.of());
+        }
+
+        private Optional<String> name(String code) {
+            return code == null ? Optional.empty() : Optional.ofNullable(nodesByCode.get(code)).map(CodeNode::name);
+        }
+
+        private boolean isEmpty() {
+            return nodesByCode.isEmpty();
+        }
+
+        private int size() {
+            return nodesByCode.size();
+        }
+
+        private static final class Builder {
+            private final Map<String, List<CodeNode>> childrenByParent = new LinkedHashMap<>();
+            private final Map<String, CodeNode> nodesByCode = new HashMap<>();
+
+            private void add(String parentCode, String code, String name) {
+                if (!StringUtils.hasText(code) || nodesByCode.containsKey(code)) {
+                    return; // 목록 형식 응답은 상위 코드가 행마다 반복되므로 처음 한 번만 추가
+                }
+                CodeNode node = new CodeNode(code, name);
+                nodesByCode.put(code, node);
+                childrenByParent.computeIfAbsent(parentCode == null ? "" : parentCode, key -> new ArrayList<>()).add(node);
+            }
+
+            private CodeTree build() {
+                Map<String, List<CodeNode>> children = new HashMap<>();
+                childrenByParent.forEach((parent, nodes) -> children.put(parent, List.copyOf(nodes)));
+                return new CodeTree(Map.copyOf(children), Map.copyOf(nodesByCode));
+            }
+        }
+    }
+}
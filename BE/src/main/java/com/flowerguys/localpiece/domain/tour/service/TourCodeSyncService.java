@@ -0,0 +1,54 @@
+package com.flowerguys.localpiece.domain.tour.service;
+
+import com.flowerguys.localpiece.domain.tour.dto.CategoryCodeDto;
+import com.flowerguys.localpiece.domain.tour.dto.LdongCodeDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 법정동/분류체계 코드표를 기동 시 한 번 전체 조회하여 TourCodeRegistry에 적재하고, 주기적으로 갱신합니다.
+ * 적재 전이거나 갱신에 실패하면 기존 코드표(또는 TourAPI 직접 호출)로 응답합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TourCodeSyncService {
+
+    private final TourService tourService;
+    private final TourCodeRegistry codeRegistry;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    @Scheduled(cron = "${tour-api.codes.refresh-cron:0 30 4 * * MON}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    public synchronized void refresh() {
+        try {
+            List<LdongCodeDto> ldongCodes = tourService.fetchAllLdongCodes();
+            List<CategoryCodeDto> categoryCodes = tourService.fetchAllCategoryCodes();
+
+            // 빈 응답으로 기존 코드표를 지우지 않도록 둘 다 받아온 경우에만 교체
+            if (ldongCodes.isEmpty() || categoryCodes.isEmpty()) {
+                log.warn("코드표 응답이 비어 있어 갱신하지 않습니다. 법정동: {}, 분류체계: {}", ldongCodes.size(), categoryCodes.size());
+                return;
+            }
+            codeRegistry.replaceLdongCodes(ldongCodes);
+            codeRegistry.replaceCategoryCodes(categoryCodes);
+        } catch (Exception e) {
+            log.error("코드표 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.flowerguys.localpiece.domain.tour.service;
+
+import com.flowerguys.localpiece.domain.tour.dto.CommonInfoDto;
+import com.flowerguys.localpiece.domain.tour.dto.ImageInfoDto;
+import com.flowerguys.localpiece.domain.tour.dto.IntroductionInfoDto;
+import com.flowerguys.localpiece.domain.tour.dto.PetTourInfoDto;
+import com.flowerguys.localpiece.domain.tour.dto.RepeatInfoDto;
+import com.flowerguys.localpiece.domain.tour.dto.TourApiProperties;
+import com.flowerguys.localpiece.domain.tour.dto.TourDetailDto;
+import com.flowerguys.localpiece.global.common.ErrorCode;
+import com.flowerguys.localpiece.global.common.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 관광지 상세 페이지에 필요한 TourAPI 5종 조회를 가상 스레드에서 동시에 수행하고 하나의 응답으로 묶습니다.
+ * 모든 조회는 하나의 마감 시간을 공유하며, 제때 끝나지 않거나 실패한 항목만 비워서 응답합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TourDetailService {
+
+    private static final int PART_COUNT = 5;
+
+    private final TourService tourService;
+    private final TourApiProperties apiProperties;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public TourDetailDto getPlaceDetail(String contentId, String contentTypeId) {
+        long deadline = System.nanoTime() + apiProperties.getDetailTimeout().toNanos();
+
+        Future<List<CommonInfoDto>> common = executor.submit(() -> tourService.getCommonInfo(contentId));
+        Future<List<IntroductionInfoDto>> intro = executor.submit(() -> tourService.getIntroductionInfo(contentId, contentTypeId));
+        Future<List<RepeatInfoDto>> info = executor.submit(() -> tourService.getRepeatInfo(contentId, contentTypeId));
+        Future<List<ImageInfoDto>> images = executor.submit(() -> tourService.getImageInfo(contentId));
+        Future<List<PetTourInfoDto>> petTour = executor.submit(() -> tourService.getPetTourInfo(contentId));
+
+        List<String> failedParts = new ArrayList<>();
+        List<CommonInfoDto> commonInfo = await("common", common, deadline, failedParts);
+        List<IntroductionInfoDto> introInfo = await("intro", intro, deadline, failedParts);
+        List<RepeatInfoDto> repeatInfo = await("info", info, deadline, failedParts);
+        List<ImageInfoDto> imageInfo = await("images", images, deadline, failedParts);
+        List<PetTourInfoDto> petTourInfo = await("petTour", petTour, deadline, failedParts);
+
+        if (failedParts.size() == PART_COUNT) {
+            throw new BusinessException(ErrorCode.TOUR_API_ERROR);
+        }
+
+        return TourDetailDto.builder()
+                .common(first(commonInfo))
+                .intro(first(introInfo))
+                .info(repeatInfo)
+                .images(imageInfo)
+                .petTour(first(petTourInfo))
+                .failedParts(failedParts)
+                .build();
+    }
+
+    private <T> List<T> await(String part, Future<List<T>> future, long deadline, List<String> failedParts) {
+        try {
+            return future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 인터럽트하지 않음: 같은 요청에 합류한 다른 호출자가 있을 수 있고, 끝난 응답은 캐시에 남음
+            future.cancel(false);
+            log.warn("관광지 상세 조회 시간 초과: part={}", part);
+        } catch (ExecutionException e) {
+            log.warn("관광지 상세 조회 실패: part={}, message={}", part, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+        }
+        failedParts.add(part);
+        return List.of();
+    }
+
+    private static <T> T first(List<T> items) {
+        return items.isEmpty() ? null : items.get(0);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,7 +1,5 @@
 package com.flowerguys.localpiece.domain.tour.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flowerguys.localpiece.domain.tour.dto.CategoryCodeDto;
 import com.flowerguys.localpiece.domain.tour.dto.CommonInfoDto;
 import com.flowerguys.localpiece.domain.tour.dto.EventItemDto;
@@ -10,41 +8,68 @@ import com.flowerguys.localpiece.domain.tour.dto.IntroductionInfoDto;
 import com.flowerguys.localpiece.domain.tour.dto.LdongCodeDto;
 import com.flowerguys.localpiece.domain.tour.dto.PetTourInfoDto;
 import com.flowerguys.localpiece.domain.tour.dto.RepeatInfoDto;
+import com.flowerguys.localpiece.domain.tour.dto.TourApiPage;
 import com.flowerguys.localpiece.domain.tour.dto.TourApiProperties;
 import com.flowerguys.localpiece.domain.tour.dto.TourItemDto;
 import com.flowerguys.localpiece.domain.tour.dto.TourItemWithDistDto;
 import com.flowerguys.localpiece.global.common.ErrorCode;
 import com.flowerguys.localpiece.global.common.exception.BusinessException;
+import com.flowerguys.localpiece.global.util.SqliteUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.io.IOException;
 import java.net.URI;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TourService {
 
+    @Qualifier("tourApiRestTemplate")
     private final RestTemplate restTemplate;
     private final TourApiProperties apiProperties;
-    private final ObjectMapper objectMapper;
+    private final TourApiResponseParser responseParser;
+    private final TourApiCache tourApiCache;
+    private final TourApiRequestCoalescer requestCoalescer;
+    private final TourCatalogue tourCatalogue;
+    private final TourCodeRegistry codeRegistry;
+    private final TourApiCircuitBreaker circuitBreaker;
+    private final TourApiBulkhead bulkhead;
+    private final SqliteUtil sqliteUtil;
+
+    // 백그라운드 갱신이 진행 중인 캐시 키
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
 
     private static final String GYEONGBUK_LDONG_REGN_CD = "47";
+    private static final int CODE_PAGE_SIZE = 1000;
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
 
     public List<TourItemDto> getAreaBasedList(
             String sigunguCode, String contentTypeId, int pageNo, int numOfRows, String arrange,
             String lclsSystm1, String lclsSystm2, String lclsSystm3, String modifiedtime) {
 
-        String jsonString = callTourApi("/areaBasedList2", builder -> {
+        if (tourCatalogue.isServable()) {
+            return tourCatalogue.findAreaBased(
+                    sigunguCode, contentTypeId, pageNo, numOfRows, arrange,
+                    lclsSystm1, lclsSystm2, lclsSystm3, modifiedtime);
+        }
+
+        return fetchItems("/areaBasedList2", builder -> {
             builder.queryParam("numOfRows", numOfRows)
                    .queryParam("pageNo", pageNo)
                    .queryParam("arrange", arrange)
@@ -56,34 +81,84 @@ public class TourService {
             if (StringUtils.hasText(lclsSystm2)) builder.queryParam("lclsSystm2", lclsSystm2);
             if (StringUtils.hasText(lclsSystm3)) builder.queryParam("lclsSystm3", lclsSystm3);
             if (StringUtils.hasText(modifiedtime)) builder.queryParam("modifiedtime", modifiedtime);
-        });
+        }, TourItemDto.class);
+    }
 
-        return parseItems(jsonString, TourItemDto.class);
+    /**
+     * 로컬 미러 동기화용 경북 전체 목록 페이지 조회 (캐시와 미러를 거치지 않고 TourAPI를 직접 호출)
+     */
+    public TourApiPage<TourItemDto> fetchCataloguePage(int pageNo, int numOfRows, String modifiedtime) {
+        UriComponents uriComponents = buildUri("/areaBasedList2", builder -> {
+            builder.queryParam("numOfRows", numOfRows)
+                   .queryParam("pageNo", pageNo)
+                   // 수정일순(C)은 동기화 도중 수정된 항목이 앞으로 옮겨가 페이지 경계에서 누락되므로 생성일순(D)으로 조회
+                   .queryParam("arrange", "D")
+                   .queryParam("lDongRegnCd", GYEONGBUK_LDONG_REGN_CD);
+            if (StringUtils.hasText(modifiedtime)) builder.queryParam("modifiedtime", modifiedtime);
+        });
+        return callTourApiPage("/areaBasedList2", uriComponents.toUri(), TourItemDto.class);
     }
 
     /**
      * 법정동 코드 조회 (기존 getSigunguCodes -> getLdongCodeList로 변경 및 확장)
      */
     public List<LdongCodeDto> getLdongCodeList(String ldongAreaCd, String lDongListYn) {
-        String jsonString = callTourApi("/ldongCode2", builder -> {
+        if (codeRegistry.isLoaded()) {
+            return codeRegistry.getLdongCodes(ldongAreaCd, lDongListYn);
+        }
+
+        return fetchItems("/ldongCode2", builder -> {
             builder.queryParam("numOfRows", 100); // 충분한 결과 수를 위해 100으로 설정
             if (StringUtils.hasText(ldongAreaCd)) builder.queryParam("lDongRegnCd", ldongAreaCd);
             if (StringUtils.hasText(lDongListYn)) builder.queryParam("lDongListYn", lDongListYn);
-        });
-        return parseItems(jsonString, LdongCodeDto.class);
+        }, LdongCodeDto.class);
     }
 
     /**
      * 신규 분류체계 코드 조회
      */
     public List<CategoryCodeDto> getCategoryCodeList(String lclsSystm1, String lclsSystm2, String lclsSystmListYn) {
-        String jsonString = callTourApi("/lclsSystmCode2", builder -> {
+        if (codeRegistry.isLoaded()) {
+            return codeRegistry.getCategoryCodes(lclsSystm1, lclsSystm2, lclsSystmListYn);
+        }
+
+        return fetchItems("/lclsSystmCode2", builder -> {
             builder.queryParam("numOfRows", 300); // 모든 카테고리를 가져오기 위해 충분히 큰 값 설정
             if (StringUtils.hasText(lclsSystm1)) builder.queryParam("lclsSystm1", lclsSystm1);
             if (StringUtils.hasText(lclsSystm2)) builder.queryParam("lclsSystm2", lclsSystm2);
             if (StringUtils.hasText(lclsSystmListYn)) builder.queryParam("lclsSystmListYn", lclsSystmListYn);
-        });
-        return parseItems(jsonString, CategoryCodeDto.class);
+        }, CategoryCodeDto.class);
+    }
+
+    /**
+     * 코드표 적재용 전체 법정동 목록 조회 (캐시를 거치지 않고 TourAPI를 직접 호출)
+     */
+    public List<LdongCodeDto> fetchAllLdongCodes() {
+        return fetchAllPages("/ldongCode2", builder -> builder.queryParam("lDongListYn", "Y"), LdongCodeDto.class);
+    }
+
+    /**
+     * 코드표 적재용 전체 분류체계 목록 조회 (캐시를 거치지 않고 TourAPI를 직접 호출)
+     */
+    public List<CategoryCodeDto> fetchAllCategoryCodes() {
+        return fetchAllPages("/lclsSystmCode2", builder -> builder.queryParam("lclsSystmListYn", "Y"), CategoryCodeDto.class);
+    }
+
+    private <T> List<T> fetchAllPages(String path, UriBuilderCustomizer customizer, Class<T> itemClass) {
+        List<T> result = new ArrayList<>();
+        for (int pageNo = 1; ; pageNo++) {
+            int currentPage = pageNo;
+            UriComponents uriComponents = buildUri(path, builder -> {
+                builder.queryParam("numOfRows", CODE_PAGE_SIZE)
+                       .queryParam("pageNo", currentPage);
+                customizer.customize(builder);
+            });
+            List<T> page = callTourApi(path, uriComponents.toUri(), itemClass);
+            result.addAll(page);
+            if (page.size() < CODE_PAGE_SIZE) {
+                return result;
+            }
+        }
     }
 
 
@@ -92,11 +167,79 @@ public class TourService {
         void customize(UriComponentsBuilder builder);
     }
 
-    private String callTourApi(String path, UriBuilderCustomizer customizer) {
-        DefaultUriBuilderFactory factory = new DefaultUriBuilderFactory();
-        factory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.NONE);
-        restTemplate.setUriTemplateHandler(factory);
+    /**
+     * 캐시에 있으면 캐시된 결과를, 없으면 TourAPI를 호출해 파싱한 뒤 캐시에 저장합니다.
+     * TTL이 지난 결과는 오래된 응답임을 표시하여 바로 돌려주고, 갱신은 백그라운드에서 수행합니다.
+     */
+    private <T> List<T> fetchItems(String path, UriBuilderCustomizer customizer, Class<T> itemClass) {
+        UriComponents uriComponents = buildUri(path, customizer);
+        String cacheKey = tourApiCache.createKey(path, uriComponents.getQueryParams());
+
+        TourApiCache.Lookup<T> cached = tourApiCache.lookup(cacheKey);
+        if (cached != null && !cached.stale()) {
+            log.debug("TourAPI cache hit: {}", cacheKey);
+            return cached.items();
+        }
+        if (cached != null) {
+            log.debug("TourAPI stale cache hit: {}", cacheKey);
+            markStaleResponse();
+            refreshInBackground(path, cacheKey, uriComponents.toUri(), itemClass);
+            return cached.items();
+        }
+
+        return loadAndCache(path, cacheKey, uriComponents.toUri(), itemClass);
+    }
+
+    private <T> List<T> loadAndCache(String path, String cacheKey, URI uri, Class<T> itemClass) {
+        // 같은 키로 동시에 들어온 요청은 하나의 업스트림 호출 결과를 공유
+        return requestCoalescer.execute(cacheKey, () -> {
+            List<T> items = callTourApi(path, uri, itemClass);
+            tourApiCache.put(path, cacheKey, items);
+            return items;
+        });
+    }
+
+    private <T> void refreshInBackground(String path, String cacheKey, URI uri, Class<T> itemClass) {
+        if (!refreshingKeys.add(cacheKey)) {
+            return; // 이미 갱신 중
+        }
+        Thread.ofVirtual().name("tour-api-refresh").start(() -> {
+            try {
+                loadAndCache(path, cacheKey, uri, itemClass);
+            } catch (Exception e) {
+                // 갱신에 실패해도 stale-ttl 동안은 기존 응답을 계속 사용
+                log.warn("TourAPI 백그라운드 갱신 실패: {}, {}", cacheKey, e.getMessage());
+            } finally {
+                refreshingKeys.remove(cacheKey);
+            }
+        });
+    }
+
+    /**
+     * 현재 요청의 응답에 오래된 데이터임을 알리는 Warning 헤더를 추가합니다.
+     */
+    private void markStaleResponse() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && attributes.getResponse() != null) {
+            attributes.getResponse().setHeader(HttpHeaders.WARNING, STALE_WARNING);
+        }
+    }
+
+    private double parseCoordinate(String value) {
+        double coordinate;
+        try {
+            coordinate = Double.parseDouble(value);
+        } catch (NumberFormatException | NullPointerException e) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT);
+        }
+        // 경도/위도 범위를 벗어난 값은 격자 계산에서 int 범위를 넘을 수 있으므로 거부
+        if (!Double.isFinite(coordinate) || Math.abs(coordinate) > 180) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT);
+        }
+        return coordinate;
+    }
 
+    private UriComponents buildUri(String path, UriBuilderCustomizer customizer) {
         UriComponentsBuilder builder = UriComponentsBuilder
                 .fromUriString(apiProperties.getBaseUrl())
                 .path(path)
@@ -107,54 +250,50 @@ public class TourService {
 
         customizer.customize(builder);
 
-        URI uri = builder.build(true).toUri();
+        return builder.build(true);
+    }
+
+    private <T> List<T> callTourApi(String path, URI uri, Class<T> itemClass) {
+        return callTourApiPage(path, uri, itemClass).items();
+    }
+
+    private <T> TourApiPage<T> callTourApiPage(String path, URI uri, Class<T> itemClass) {
         log.info("Request URI to TourAPI: {}", uri);
 
         try {
-            return restTemplate.getForObject(uri, String.class);
+            // 동시 호출 제한 -> 엔드포인트별 서킷 브레이커 -> 실제 호출 순서로 보호
+            return bulkhead.execute(() -> circuitBreaker.execute(path, () ->
+                    // 응답 본문을 문자열로 만들지 않고 스트림에서 바로 파싱
+                    restTemplate.execute(uri, HttpMethod.GET, null,
+                            response -> responseParser.parsePage(response.getBody(), itemClass))));
         } catch (RestClientException e) {
             log.error("TourAPI 호출 중 RestClientException 발생: {}", e.getMessage());
             throw new BusinessException(ErrorCode.TOUR_API_ERROR);
         }
     }
 
-    private <T> List<T> parseItems(String jsonString, Class<T> itemClass) {
-        try {
-            JsonNode root = objectMapper.readTree(jsonString);
-
-            JsonNode header = root.path("response").path("header");
-            String resultCode = header.path("resultCode").asText();
-            if (!"0000".equals(resultCode)) {
-                String resultMsg = header.path("resultMsg").asText();
-                log.error("TourAPI 에러 응답: resultCode={}, resultMsg={}", resultCode, resultMsg);
-                throw new BusinessException(ErrorCode.TOUR_API_ERROR);
-            }
-
-            JsonNode itemsNode = root.path("response").path("body").path("items").path("item");
-
-            if (itemsNode.isMissingNode() || itemsNode.isNull() || !itemsNode.isArray()) {
-                return Collections.emptyList();
-            }
-
-            return objectMapper.readerForListOf(itemClass).readValue(itemsNode);
-        } catch (IOException e) {
-            log.error("TourAPI 응답 JSON 파싱 중 IOException 발생: {}", e.getMessage());
-            throw new BusinessException(ErrorCode.TOUR_API_ERROR);
-        }
-    }
-
     /**
      * 위치기반 관광정보 조회
      */
     public List<TourItemWithDistDto> getLocationBasedList(
             String mapX, String mapY, int radius, String arrange, String contentTypeId,
-            String lclsSystm1, String lclsSystm2, String lclsSystm3, String modifiedtime) {
+            String lclsSystm1, String lclsSystm2, String lclsSystm3, String modifiedtime,
+            int pageNo, int numOfRows) {
+
+        if (tourCatalogue.isServable()) {
+            return tourCatalogue.findNearby(
+                    parseCoordinate(mapX), parseCoordinate(mapY), radius, arrange, contentTypeId,
+                    lclsSystm1, lclsSystm2, lclsSystm3, modifiedtime,
+                    pageNo, numOfRows);
+        }
 
-        String jsonString = callTourApi("/locationBasedList2", builder -> {
+        return fetchItems("/locationBasedList2", builder -> {
             // 필수 파라미터
             builder.queryParam("mapX", mapX)
                    .queryParam("mapY", mapY)
-                   .queryParam("radius", radius);
+                   .queryParam("radius", radius)
+                   .queryParam("pageNo", pageNo)
+                   .queryParam("numOfRows", numOfRows);
 
             // 옵션 파라미터
             if (StringUtils.hasText(arrange)) builder.queryParam("arrange", arrange);
@@ -163,20 +302,31 @@ public class TourService {
             if (StringUtils.hasText(lclsSystm2)) builder.queryParam("lclsSystm2", lclsSystm2);
             if (StringUtils.hasText(lclsSystm3)) builder.queryParam("lclsSystm3", lclsSystm3);
             if (StringUtils.hasText(modifiedtime)) builder.queryParam("modifiedtime", modifiedtime);
-        });
-
-        return parseItems(jsonString, TourItemWithDistDto.class);
+        }, TourItemWithDistDto.class);
     }
 
     /**
      * 키워드 기반 관광정보 조회
+     * local이면 TourAPI 대신 내장 SQLite 관광지 데이터에서 검색합니다.
+     * 이때 arrange가 A면 제목순, 그 외에는 관련도순이며 분류체계(lclsSystm) 필터는 지원하지 않습니다.
      */
     public List<TourItemDto> searchKeyword(
             String keyword, String arrange, String contentTypeId,
             String lclsSystm1, String lclsSystm2, String lclsSystm3,
-            int pageNo, int numOfRows) {
+            int pageNo, int numOfRows, boolean local) {
 
-        String jsonString = callTourApi("/searchKeyword2", builder -> {
+        if (local) {
+            return searchKeywordLocally(keyword, arrange, contentTypeId, pageNo, numOfRows);
+        }
+
+        if (tourCatalogue.isServable()) {
+            return tourCatalogue.searchKeyword(
+                    keyword, arrange, contentTypeId,
+                    lclsSystm1, lclsSystm2, lclsSystm3,
+                    pageNo, numOfRows);
+        }
+
+        return fetchItems("/searchKeyword2", builder -> {
             // 필수 파라미터
             builder.queryParam("keyword", keyword);
             
@@ -191,9 +341,30 @@ public class TourService {
             if (StringUtils.hasText(lclsSystm1)) builder.queryParam("lclsSystm1", lclsSystm1);
             if (StringUtils.hasText(lclsSystm2)) builder.queryParam("lclsSystm2", lclsSystm2);
             if (StringUtils.hasText(lclsSystm3)) builder.queryParam("lclsSystm3", lclsSystm3);
-        });
+        }, TourItemDto.class);
+    }
+
+    private List<TourItemDto> searchKeywordLocally(
+            String keyword, String arrange, String contentTypeId, int pageNo, int numOfRows) {
 
-        return parseItems(jsonString, TourItemDto.class);
+        if (!StringUtils.hasText(keyword)) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT, "검색어를 입력해주세요.");
+        }
+        if (pageNo < 1 || numOfRows < 1) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT, "pageNo와 numOfRows는 1 이상이어야 합니다.");
+        }
+
+        boolean titleOrder = "A".equals(arrange);
+        return sqliteUtil.searchPlaces(keyword, contentTypeId, titleOrder, pageNo, numOfRows).stream()
+                .map(place -> TourItemDto.builder()
+                        .contentid(String.valueOf(place.contentId()))
+                        .contenttypeid(place.contentTypeId())
+                        .title(place.title())
+                        .addr1(place.addr1())
+                        .mapx(String.valueOf(place.lon()))
+                        .mapy(String.valueOf(place.lat()))
+                        .build())
+                .toList();
     }
 
     /**
@@ -204,7 +375,7 @@ public class TourService {
             String lclsSystm1, String lclsSystm2, String lclsSystm3,
             int pageNo, int numOfRows) {
 
-        String jsonString = callTourApi("/searchFestival2", builder -> {
+        return fetchItems("/searchFestival2", builder -> {
             // 필수 파라미터
             builder.queryParam("eventStartDate", eventStartDate);
 
@@ -219,9 +390,7 @@ public class TourService {
             if (StringUtils.hasText(lclsSystm1)) builder.queryParam("lclsSystm1", lclsSystm1);
             if (StringUtils.hasText(lclsSystm2)) builder.queryParam("lclsSystm2", lclsSystm2);
             if (StringUtils.hasText(lclsSystm3)) builder.queryParam("lclsSystm3", lclsSystm3);
-        });
-
-        return parseItems(jsonString, EventItemDto.class);
+        }, EventItemDto.class);
     }
 
     /**
@@ -231,7 +400,11 @@ public class TourService {
             String arrange, String lclsSystm1, String lclsSystm2, String lclsSystm3,
             int pageNo, int numOfRows) {
 
-        String jsonString = callTourApi("/searchStay2", builder -> {
+        if (tourCatalogue.isServable()) {
+            return tourCatalogue.searchStay(arrange, lclsSystm1, lclsSystm2, lclsSystm3, pageNo, numOfRows);
+        }
+
+        return fetchItems("/searchStay2", builder -> {
             // 경북 지역 내 숙박업소만 조회
             builder.queryParam("lDongRegnCd", GYEONGBUK_LDONG_REGN_CD);
 
@@ -242,72 +415,59 @@ public class TourService {
             if (StringUtils.hasText(lclsSystm1)) builder.queryParam("lclsSystm1", lclsSystm1);
             if (StringUtils.hasText(lclsSystm2)) builder.queryParam("lclsSystm2", lclsSystm2);
             if (StringUtils.hasText(lclsSystm3)) builder.queryParam("lclsSystm3", lclsSystm3);
-        });
-
-        return parseItems(jsonString, TourItemDto.class);
+        }, TourItemDto.class);
     }
 
     /**
      * 반려동물 동반여행 정보 조회
      */
     public List<PetTourInfoDto> getPetTourInfo(String contentId) {
-        String jsonString = callTourApi("/detailPetTour2", builder -> {
+        return fetchItems("/detailPetTour2", builder -> {
             // 필수 파라미터
             builder.queryParam("contentId", contentId);
-        });
-
-        return parseItems(jsonString, PetTourInfoDto.class);
+        }, PetTourInfoDto.class);
     }
 
     /**
      * 공통정보 조회
      */
     public List<CommonInfoDto> getCommonInfo(String contentId) {
-        String jsonString = callTourApi("/detailCommon2", builder -> {
+        return fetchItems("/detailCommon2", builder -> {
             // 필수 파라미터
             builder.queryParam("contentId", contentId);
-        });
-
-        return parseItems(jsonString, CommonInfoDto.class);
+        }, CommonInfoDto.class);
     }
 
     /**
      * 소개정보 조회
      */
     public List<IntroductionInfoDto> getIntroductionInfo(String contentId, String contentTypeId) {
-        String jsonString = callTourApi("/detailIntro2", builder -> {
+        return fetchItems("/detailIntro2", builder -> {
             // 필수 파라미터
             builder.queryParam("contentId", contentId)
                    .queryParam("contentTypeId", contentTypeId);
-        });
-
-        // Object.class -> IntroductionInfoDto.class 로 변경
-        return parseItems(jsonString, IntroductionInfoDto.class);
+        }, IntroductionInfoDto.class);
     }
 
     /**
      * 반복정보 조회
      */
     public List<RepeatInfoDto> getRepeatInfo(String contentId, String contentTypeId) {
-        String jsonString = callTourApi("/detailInfo2", builder -> {
+        return fetchItems("/detailInfo2", builder -> {
             // 필수 파라미터
             builder.queryParam("contentId", contentId)
                    .queryParam("contentTypeId", contentTypeId);
-        });
-
-        return parseItems(jsonString, RepeatInfoDto.class);
+        }, RepeatInfoDto.class);
     }
 
     /**
      * 이미지정보 조회
      */
     public List<ImageInfoDto> getImageInfo(String contentId) {
-        String jsonString = callTourApi("/detailImage2", builder -> {
+        return fetchItems("/detailImage2", builder -> {
             // 필수 파라미터
             builder.queryParam("contentId", contentId)
                    .queryParam("imageYN", "Y"); // 콘텐츠 이미지 조회
-        });
-
-        return parseItems(jsonString, ImageInfoDto.class);
+        }, ImageInfoDto.class);
     }
 }
\ No newline at end of file
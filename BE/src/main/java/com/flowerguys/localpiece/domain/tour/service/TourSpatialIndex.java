@@ -0,0 +1,172 @@
+package com.flowerguys.localpiece.domain.tour.service;
+
+import com.flowerguys.localpiece.domain.tour.dto.TourItemDto;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 관광정보 좌표(mapx=경도, mapy=위도)에 대한 고정 격자 공간 인덱스.
+ * 항목을 격자 셀 키 순으로 정렬해 primitive 배열에 담아두고,
+ * 반경 조회 시 바운딩 박스에 걸치는 셀만 이진 탐색으로 찾아 거리 계산합니다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 조회해도 안전합니다.
+ */
+public final class TourSpatialIndex {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    // 격자 한 칸 크기 (약 1.1km)
+    private static final double CELL_SIZE_DEGREES = 0.01;
+
+    private static final TourSpatialIndex EMPTY = new TourSpatialIndex(List.of(), new int[0], new double[0], new double[0], new long[0], new int[0]);
+
+    private final List<TourItemDto> items;
+    // 셀 키 순으로 정렬된 항목 번호와 좌표
+    private final int[] itemIndexes;
+    private final double[] lons;
+    private final double[] lats;
+    // 셀 키(오름차순)와 각 셀의 시작 위치 (마지막 원소는 전체 개수)
+    private final long[] cellKeys;
+    private final int[] cellOffsets;
+
+    private TourSpatialIndex(List<TourItemDto> items, int[] itemIndexes, double[] lons, double[] lats,
+                             long[] cellKeys, int[] cellOffsets) {
+        this.items = items;
+        this.itemIndexes = itemIndexes;
+        this.lons = lons;
+        this.lats = lats;
+        this.cellKeys = cellKeys;
+        this.cellOffsets = cellOffsets;
+    }
+
+    public static TourSpatialIndex empty() {
+        return EMPTY;
+    }
+
+    public static TourSpatialIndex build(List<TourItemDto> items) {
+        int size = items.size();
+        long[] keys = new long[size];
+        double[] rawLons = new double[size];
+        double[] rawLats = new double[size];
+        Integer[] order = new Integer[size];
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+            TourItemDto item = items.get(i);
+            double lon = parseCoordinate(item.getMapx());
+            double lat = parseCoordinate(item.getMapy());
+            if (Double.isNaN(lon) || Double.isNaN(lat)) {
+                continue; // 좌표가 없는 항목은 인덱싱하지 않음
+            }
+            rawLons[i] = lon;
+            rawLats[i] = lat;
+            keys[i] = cellKey(row(lat), col(lon));
+            order[count++] = i;
+        }
+
+        Integer[] sorted = Arrays.copyOf(order, count);
+        Arrays.sort(sorted, (a, b) -> Long.compare(keys[a], keys[b]));
+
+        int[] itemIndexes = new int[count];
+        double[] lons = new double[count];
+        double[] lats = new double[count];
+        long[] cellKeys = new long[count];
+        int[] cellOffsets = new int[count + 1];
+        int cells = 0;
+
+        for (int i = 0; i < count; i++) {
+            int itemIndex = sorted[i];
+            itemIndexes[i] = itemIndex;
+            lons[i] = rawLons[itemIndex];
+            lats[i] = rawLats[itemIndex];
+            if (cells == 0 || cellKeys[cells - 1] != keys[itemIndex]) {
+                cellKeys[cells] = keys[itemIndex];
+                cellOffsets[cells] = i;
+                cells++;
+            }
+        }
+        cellOffsets[cells] = count;
+
+        return new TourSpatialIndex(items, itemIndexes, lons, lats,
+                Arrays.copyOf(cellKeys, cells), Arrays.copyOf(cellOffsets, cells + 1));
+    }
+
+    public int size() {
+        return itemIndexes.length;
+    }
+
+    public TourItemDto item(int itemIndex) {
+        return items.get(itemIndex);
+    }
+
+    /**
+     * 중심 좌표에서 반경(m) 안에 있는 항목을 찾아 (항목 번호, 거리)를 콜백으로 전달합니다.
+     */
+    public void searchRadius(double centerLon, double centerLat, double radiusMeters, HitConsumer consumer) {
+        if (itemIndexes.length == 0 || !(radiusMeters > 0)) {
+            return;
+        }
+        // 거리 계산(haversine)과 같은 지구 반지름으로 반경을 모두 덮는 바운딩 박스를 구함.
+        // 근사 상수(111,320m/도)를 쓰면 박스가 원보다 작아져 남북 끝의 항목이 누락됨
+        double angularRadius = radiusMeters / EARTH_RADIUS_METERS;
+        double latDelta = Math.toDegrees(angularRadius);
+        double sinLonDelta = Math.sin(angularRadius) / Math.max(Math.cos(Math.toRadians(centerLat)), 1e-6);
+        double lonDelta = sinLonDelta >= 1 ? 180 : Math.toDegrees(Math.asin(sinLonDelta));
+
+        int minRow = row(centerLat - latDelta);
+        int maxRow = row(centerLat + latDelta);
+        int minCol = col(centerLon - lonDelta);
+        int maxCol = col(centerLon + lonDelta);
+
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                int cell = Arrays.binarySearch(cellKeys, cellKey(r, c));
+                if (cell < 0) {
+                    continue;
+                }
+                for (int i = cellOffsets[cell]; i < cellOffsets[cell + 1]; i++) {
+                    double distance = haversine(centerLat, centerLon, lats[i], lons[i]);
+                    if (distance <= radiusMeters) {
+                        consumer.accept(itemIndexes[i], distance);
+                    }
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface HitConsumer {
+        void accept(int itemIndex, double distanceMeters);
+    }
+
+    private static int row(double lat) {
+        return (int) Math.floor(lat / CELL_SIZE_DEGREES);
+    }
+
+    private static int col(double lon) {
+        return (int) Math.floor(lon / CELL_SIZE_DEGREES);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    private static double parseCoordinate(String value) {
+        if (!StringUtils.hasText(value)) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.sqrt(a));
+    }
+}
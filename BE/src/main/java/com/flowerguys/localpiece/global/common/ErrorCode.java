@@ -30,7 +30,10 @@ public enum ErrorCode {
     FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
 
-    TOUR_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "외부 관광 정보 API 호출 중 오류가 발생했습니다.");
+    TOUR_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "외부 관광 정보 API 호출 중 오류가 발생했습니다."),
+
+    // 503 Service Unavailable
+    TOUR_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "외부 관광 정보 API가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final String message;
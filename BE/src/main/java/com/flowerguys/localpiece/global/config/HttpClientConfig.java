@@ -0,0 +1,129 @@
+package com.flowerguys.localpiece.global.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * 업스트림별 커넥션 풀을 가진 RestTemplate 설정.
+ * 커넥션을 재사용(keep-alive)하여 요청마다 TCP/TLS 핸드셰이크가 반복되지 않도록 합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class HttpClientConfig {
+
+    private final HttpClientProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient tourApiHttpClient() {
+        return createHttpClient("tour-api", properties.getTourApi());
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient aiServerHttpClient() {
+        return createHttpClient("ai-server", properties.getAiServer());
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient aiNewServerHttpClient() {
+        return createHttpClient("ai-new-server", properties.getAiNewServer());
+    }
+
+    /**
+     * TourAPI 호출용 RestTemplate
+     */
+    @Bean
+    public RestTemplate tourApiRestTemplate() {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(tourApiHttpClient()));
+    }
+
+    /**
+     * AI 서버 호출용 RestTemplate
+     */
+    @Bean
+    public RestTemplate aiServerRestTemplate() {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(aiServerHttpClient()));
+    }
+
+    /**
+     * 코스 생성 AI 서버(ai-new-server) 호출용 RestTemplate
+     */
+    @Bean
+    public RestTemplate aiNewServerRestTemplate() {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(aiNewServerHttpClient()));
+    }
+
+    private CloseableHttpClient createHttpClient(String upstream, HttpClientProperties.Upstream settings) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.getMaxConnections())
+                // 업스트림당 호스트가 하나이므로 라우트당 최대치도 전체와 동일하게 설정
+                .setMaxConnPerRoute(settings.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(toTimeout(settings.getConnectTimeout()))
+                        .setSocketTimeout(toTimeout(settings.getReadTimeout()))
+                        .setTimeToLive(toTimeValue(settings.getTimeToLive()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        registerPoolMetrics(upstream, connectionManager);
+
+        TimeValue maxKeepAlive = toTimeValue(settings.getKeepAlive());
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(toTimeout(settings.getConnectionRequestTimeout()))
+                        .setResponseTimeout(toTimeout(settings.getReadTimeout()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue suggested = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return TimeValue.isPositive(suggested) && suggested.compareTo(maxKeepAlive) < 0 ? suggested : maxKeepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(maxKeepAlive)
+                .build();
+    }
+
+    private void registerPoolMetrics(String upstream, PoolingHttpClientConnectionManager connectionManager) {
+        Gauge.builder("http.client.pool.leased", connectionManager, cm -> cm.getTotalStats().getLeased())
+                .description("사용 중인 커넥션 수")
+                .tag("upstream", upstream)
+                .register(meterRegistry);
+        Gauge.builder("http.client.pool.available", connectionManager, cm -> cm.getTotalStats().getAvailable())
+                .description("유휴 커넥션 수")
+                .tag("upstream", upstream)
+                .register(meterRegistry);
+        Gauge.builder("http.client.pool.pending", connectionManager, cm -> cm.getTotalStats().getPending())
+                .description("커넥션을 기다리는 요청 수")
+                .tag("upstream", upstream)
+                .register(meterRegistry);
+        Gauge.builder("http.client.pool.max", connectionManager, cm -> cm.getTotalStats().getMax())
+                .description("최대 커넥션 수")
+                .tag("upstream", upstream)
+                .register(meterRegistry);
+    }
+
+    private static Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    private static TimeValue toTimeValue(Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+}
@@ -0,0 +1,36 @@
+package com.flowerguys.localpiece.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 외부 호출용 HTTP 클라이언트 설정 (http-client.*)
+ * 업스트림마다 별도의 커넥션 풀을 사용합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "http-client")
+@Getter
+@Setter
+public class HttpClientProperties {
+    private Upstream tourApi = new Upstream();
+    private Upstream aiServer = new Upstream();
+    private Upstream aiNewServer = new Upstream();
+
+    @Getter
+    @Setter
+    public static class Upstream {
+        private int maxConnections = 20;
+        private Duration connectTimeout = Duration.ofSeconds(3);
+        // 풀에서 커넥션을 빌릴 때까지 기다리는 최대 시간
+        private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(10);
+        // 서버가 Keep-Alive 헤더를 주지 않거나 더 길게 줄 때 적용할 유휴 유지 시간 상한
+        private Duration keepAlive = Duration.ofSeconds(30);
+        // 커넥션 최대 수명 (DNS 변경 등을 반영하기 위해 주기적으로 재연결)
+        private Duration timeToLive = Duration.ofMinutes(5);
+    }
+}
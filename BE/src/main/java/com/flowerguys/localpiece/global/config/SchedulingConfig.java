@@ -0,0 +1,9 @@
+package com.flowerguys.localpiece.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling // @Scheduled 주기 작업(미러 동기화 등)을 활성화합니다.
+public class SchedulingConfig {
+}
@@ -109,9 +109,4 @@ public class SecurityConfig {
 
         return source;
     }
-
-    @Bean
-    public org.springframework.web.client.RestTemplate restTemplate() {
-        return new org.springframework.web.client.RestTemplate();
-    }
 }
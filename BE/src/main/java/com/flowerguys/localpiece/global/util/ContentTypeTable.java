@@ -0,0 +1,159 @@
+package com.flowerguys.localpiece.global.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * contentId -> 관광 타입 코드(category.top_parent_code) 조회용 불변 해시 테이블.
+ * int 키와 short 코드 번호를 배열에 직접 담는 open addressing(선형 탐사) 방식이라 조회 시 객체를 만들지 않으며,
+ * 코드 문자열은 중복 없이 한 번만 보관합니다.
+ */
+public final class ContentTypeTable {
+
+    // contentId는 양수이므로 0을 빈 슬롯 표시로 사용
+    private static final int EMPTY_KEY = 0;
+    // 행은 있지만 top_parent_code가 NULL인 경우
+    private static final short NULL_CODE = -1;
+
+    private final int[] keys;
+    private final short[] values;
+    private final String[] codes;
+    private final int mask;
+    private final int size;
+
+    private ContentTypeTable(int[] keys, short[] values, String[] codes, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.codes = codes;
+        this.mask = keys.length - 1;
+        this.size = size;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public boolean contains(int contentId) {
+        return slotOf(contentId) >= 0;
+    }
+
+    /**
+     * 타입 코드를 반환합니다. 없는 contentId이거나 코드가 NULL이면 null을 반환합니다.
+     */
+    public String get(int contentId) {
+        int slot = slotOf(contentId);
+        if (slot < 0 || values[slot] == NULL_CODE) {
+            return null;
+        }
+        return codes[values[slot]];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int codeCount() {
+        return codes.length;
+    }
+
+    /**
+     * 배열이 차지하는 대략적인 메모리 크기 (byte, 객체 헤더 포함 추정치)
+     */
+    public long estimatedBytes() {
+        long bytes = 16L + 4L * keys.length + 16L + 2L * values.length + 16L + 4L * codes.length;
+        for (String code : codes) {
+            bytes += 40L + code.length(); // String 객체 + 내부 byte[] (Latin-1)
+        }
+        return bytes;
+    }
+
+    private int slotOf(int contentId) {
+        if (contentId == EMPTY_KEY) {
+            return -1;
+        }
+        int slot = mix(contentId) & mask;
+        while (true) {
+            int key = keys[slot];
+            if (key == contentId) {
+                return slot;
+            }
+            if (key == EMPTY_KEY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static int mix(int key) {
+        // 연속된 contentId가 한 곳에 몰리지 않도록 비트를 섞음
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    public static final class Builder {
+        private final int[] keys;
+        private final short[] values;
+        private final int mask;
+        private final Map<String, Short> codeIndexes = new HashMap<>();
+        private final List<String> codes = new ArrayList<>();
+        private int size;
+
+        private Builder(int expectedSize) {
+            // 적재율을 50% 이하로 유지
+            int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+            this.keys = new int[capacity];
+            this.values = new short[capacity];
+            this.mask = capacity - 1;
+        }
+
+        /**
+         * 항목을 추가합니다. 같은 contentId가 다시 들어오면 나중 값으로 덮어씁니다.
+         */
+        public Builder put(int contentId, String code) {
+            if (contentId <= 0) {
+                throw new IllegalArgumentException("contentId must be positive: " + contentId);
+            }
+            if (size * 2 >= keys.length && !containsKey(contentId)) {
+                throw new IllegalStateException("ContentTypeTable capacity exceeded: " + size);
+            }
+            short value = code == null ? NULL_CODE : codeIndexes.computeIfAbsent(code, this::addCode);
+
+            int slot = mix(contentId) & mask;
+            while (keys[slot] != EMPTY_KEY && keys[slot] != contentId) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == EMPTY_KEY) {
+                keys[slot] = contentId;
+                size++;
+            }
+            values[slot] = value;
+            return this;
+        }
+
+        public ContentTypeTable build() {
+            return new ContentTypeTable(keys, values, codes.toArray(new String[0]), size);
+        }
+
+        private boolean containsKey(int contentId) {
+            int slot = mix(contentId) & mask;
+            while (keys[slot] != EMPTY_KEY) {
+                if (keys[slot] == contentId) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        private short addCode(String code) {
+            if (codes.size() >= Short.MAX_VALUE) {
+                throw new IllegalStateException("Too many distinct content type codes");
+            }
+            codes.add(code);
+            return (short) (codes.size() - 1);
+        }
+    }
+}
+
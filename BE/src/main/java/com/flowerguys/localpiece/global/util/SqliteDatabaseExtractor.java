@@ -0,0 +1,91 @@
+package com.flowerguys.localpiece.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * classpath에 포함된 SQLite DB를 고정된 디렉토리에 한 번만 풀어두고 재사용합니다.
+ * 파일 이름에 내용의 SHA-256을 넣어, 같은 DB라면 기존 파일을 검증 후 그대로 쓰고
+ * DB가 바뀐 배포에서만 새로 복사합니다. 이전 버전의 복사본은 정리합니다.
+ */
+@Slf4j
+final class SqliteDatabaseExtractor {
+
+    private SqliteDatabaseExtractor() {
+    }
+
+    static Path extract(Resource resource, Path extractDir) throws IOException {
+        String fileName = resource.getFilename() != null ? resource.getFilename() : "sqlite.db";
+        String baseName = fileName.endsWith(".db") ? fileName.substring(0, fileName.length() - 3) : fileName;
+
+        String checksum;
+        try (InputStream inputStream = resource.getInputStream()) {
+            checksum = sha256(inputStream);
+        }
+        Files.createDirectories(extractDir);
+        Path target = extractDir.resolve(baseName + "-" + checksum.substring(0, 16) + ".db");
+
+        if (Files.isRegularFile(target) && checksumOf(target).equals(checksum)) {
+            log.info("SQLite DB 기존 복사본 재사용: {}", target);
+        } else {
+            // 같은 디렉토리에 먼저 쓴 뒤 이름을 바꿔, 중간에 실패해도 깨진 파일이 남지 않도록 함
+            Path tempFile = Files.createTempFile(extractDir, baseName + "-", ".tmp");
+            try (InputStream inputStream = resource.getInputStream()) {
+                Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+            log.info("SQLite DB 리소스를 {} 로 복사했습니다.", target);
+        }
+
+        deleteOldCopies(extractDir, baseName, target);
+        return target;
+    }
+
+    private static void deleteOldCopies(Path extractDir, String baseName, Path current) {
+        try (DirectoryStream<Path> copies = Files.newDirectoryStream(extractDir, baseName + "-*.{db,tmp}")) {
+            for (Path copy : copies) {
+                if (!copy.equals(current)) {
+                    Files.deleteIfExists(copy);
+                    log.info("이전 SQLite DB 복사본 삭제: {}", copy);
+                }
+            }
+        } catch (IOException e) {
+            // 정리 실패는 기동에 영향을 주지 않음
+            log.warn("이전 SQLite DB 복사본 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String checksumOf(Path file) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return sha256(inputStream);
+        }
+    }
+
+    private static String sha256(InputStream inputStream) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (DigestInputStream digestStream = new DigestInputStream(inputStream, digest)) {
+            digestStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
+
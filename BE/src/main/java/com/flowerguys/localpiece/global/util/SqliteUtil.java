@@ -1,32 +1,36 @@
 package com.flowerguys.localpiece.global.util;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.FileCopyUtils;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class SqliteUtil {
 
     private String dbUrl;
+    private final ContentTypeTable contentTypeTable;
+    private final TourismSearchIndex searchIndex;
+    private final Timer contentTypeLookupTimer;
+    private final Timer placeSearchTimer;
     private static boolean driverLoaded = false;
 
     static {
@@ -39,13 +43,14 @@ public class SqliteUtil {
         }
     }
 
-    public SqliteUtil(@Value("${sqlite.db.path:classpath:db/gyeongsangbuk_do.db}") String dbPath) {
+    public SqliteUtil(@Value("${sqlite.db.path:classpath:db/gyeongsangbuk_do.db}") String dbPath,
+                      @Value("${sqlite.db.extract-dir:${java.io.tmpdir}/localpiece-sqlite}") String extractDir,
+                      MeterRegistry meterRegistry) {
         if (!driverLoaded) {
              throw new RuntimeException("SQLite JDBC Driver was not loaded.");
         }
-        File tempDbFile = null; // 임시 파일 참조 변수
         try {
-            String resolvedPath;
+            Path resolvedPath;
             if (dbPath.startsWith("classpath:")) {
                 String resourcePath = dbPath.substring(10);
                 ClassPathResource resource = new ClassPathResource(resourcePath);
@@ -54,115 +59,137 @@ public class SqliteUtil {
                     throw new IOException("Classpath resource not found: " + resourcePath);
                 }
 
-                // 1. InputStream으로 리소스 직접 얻기 (경로 변환 X)
-                try (InputStream inputStream = resource.getInputStream()) {
-                    if (inputStream == null) {
-                        throw new IOException("Could not get InputStream for resource: " + resourcePath);
-                    }
-
-                    // 2. 임시 파일 생성
-                    tempDbFile = File.createTempFile("sqlite-db-", ".db", new File("/tmp")); // /tmp 디렉토리에 생성
-                    tempDbFile.deleteOnExit(); // JVM 종료 시 자동 삭제
-
-                    // 3. InputStream -> 임시 파일 복사
-                    try (FileOutputStream outputStream = new FileOutputStream(tempDbFile)) {
-                        FileCopyUtils.copy(inputStream, outputStream);
-                    }
-                    resolvedPath = tempDbFile.getAbsolutePath();
-                    log.info("SQLite DB resource '{}' copied to temporary file: {}", resourcePath, resolvedPath);
-                }
+                // 기동마다 새 임시 파일을 만들지 않고, 체크섬으로 검증한 기존 복사본을 재사용
+                resolvedPath = SqliteDatabaseExtractor.extract(resource, Path.of(extractDir));
 
             } else {
                 // classpath: 접두사가 없으면 외부 파일 시스템 경로로 간주
-                File dbFile = new File(dbPath);
-                if (!dbFile.exists()) {
+                resolvedPath = Path.of(dbPath).toAbsolutePath();
+                if (!Files.isRegularFile(resolvedPath)) {
                     throw new IOException("SQLite DB file not found at external path: " + dbPath);
                 }
-                resolvedPath = dbFile.getAbsolutePath();
                 log.info("Using external SQLite DB file: {}", resolvedPath);
             }
 
-            this.dbUrl = "jdbc:sqlite:" + resolvedPath;
+            // 배포 중에는 DB가 바뀌지 않으므로 immutable로 열어 잠금/변경 감지를 생략
+            this.dbUrl = "jdbc:sqlite:" + resolvedPath.toUri() + "?mode=ro&immutable=1";
             log.info("SQLite DB URL set to: {}", this.dbUrl);
 
+            // 런타임 조회는 모두 메모리에서 처리하므로 DB는 기동 시 적재에만 커넥션 하나로 읽고 닫음
+            try (Connection connection = DriverManager.getConnection(dbUrl)) {
+                // 관광지 -> 타입 코드는 변하지 않는 참조 데이터이므로 기동 시 한 번 메모리에 적재
+                this.contentTypeTable = loadContentTypeTable(connection);
+                // DB를 immutable로 열어 FTS 테이블을 만들 수 없으므로 키워드 검색용 인덱스를 메모리에 구성
+                this.searchIndex = loadSearchIndex(connection);
+            }
+
         } catch (IOException e) {
             log.error("FATAL: SQLite DB 파일 처리 중 오류 발생: {}", dbPath, e);
-            // 임시 파일 생성 실패 시 정리
-            if (tempDbFile != null && tempDbFile.exists()) {
-                tempDbFile.delete();
-            }
             throw new RuntimeException("SQLite DB 파일 처리 오류", e);
         } catch (Exception e) { // 그 외 예외 처리
              log.error("FATAL: SQLiteUtil 생성 중 예상치 못한 오류 발생: {}", dbPath, e);
-             if (tempDbFile != null && tempDbFile.exists()) {
-                 tempDbFile.delete();
-             }
              throw new RuntimeException("SQLiteUtil 생성 오류", e);
         }
+
+        this.contentTypeLookupTimer = Timer.builder("sqlite.lookup")
+                .description("SQLite 조회 소요 시간")
+                .tag("query", "content-type")
+                .register(meterRegistry);
+        this.placeSearchTimer = Timer.builder("sqlite.lookup")
+                .description("SQLite 조회 소요 시간")
+                .tag("query", "keyword-search")
+                .register(meterRegistry);
+        meterRegistry.gauge("sqlite.content-type.table.entries", contentTypeTable, ContentTypeTable::size);
+        meterRegistry.gauge("sqlite.content-type.table.bytes", contentTypeTable, ContentTypeTable::estimatedBytes);
+        meterRegistry.gauge("sqlite.search.index.documents", searchIndex, TourismSearchIndex::size);
+    }
+
+    /**
+     * contentId의 관광 타입 코드(top_parent_code)를 메모리 테이블에서 조회합니다. 없으면 null을 반환합니다.
+     */
+    public String findContentTypeId(int contentId) {
+        return contentTypeTable.get(contentId);
     }
 
-    // findContentTypeIds 메소드는 이전과 동일
     public Map<Integer, String> findContentTypeIds(Set<Integer> contentIds) {
-        // ... (이전 코드와 동일) ...
         if (contentIds == null || contentIds.isEmpty()) {
             log.warn("findContentTypeIds called with empty or null contentIds set.");
             return Collections.emptyMap();
         }
-        Map<Integer, String> contentTypeMap = new HashMap<>();
-        String placeholders = String.join(",", Collections.nCopies(contentIds.size(), "?"));
-        String sql = String.format(
-            "SELECT t.content_id, c.top_parent_code " +
-            "FROM tourism t LEFT JOIN category c ON t.category_id = c.category_id " +
-            "WHERE t.content_id IN (%s)", placeholders);
-
-        log.debug("Executing SQLite query: {}", sql);
-        log.debug("Querying with content IDs: {}", contentIds);
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        try {
-            conn = DriverManager.getConnection(dbUrl);
-            pstmt = conn.prepareStatement(sql);
-            int index = 1;
+        return contentTypeLookupTimer.record(() -> {
+            Map<Integer, String> contentTypeMap = new HashMap<>();
             for (Integer id : contentIds) {
-                if (id != null) {
-                   pstmt.setInt(index++, id);
+                if (id == null) {
+                    log.warn("Null contentId encountered in the input set.");
+                } else if (contentTypeTable.contains(id)) {
+                    // 행은 있지만 top_parent_code가 NULL이면 null 값으로 담음 (기존 동작 유지)
+                    contentTypeMap.put(id, contentTypeTable.get(id));
                 } else {
-                   log.warn("Null contentId encountered in the input set.");
+                    log.warn("No data or category mapping found for contentId: {}", id);
                 }
             }
-             if (index -1 != contentIds.size()) {
-                  log.error("Parameter count mismatch after handling null IDs. Expected {}, got {}", contentIds.size(), index -1);
-                  // 임시방편으로 빈 맵 반환, 실제로는 예외처리 고려
-                  return Collections.emptyMap();
-             }
-            rs = pstmt.executeQuery();
-            int foundCount = 0;
+            return contentTypeMap;
+        });
+    }
+
+    /**
+     * 관광지명/주소에 키워드가 포함된 관광지를 메모리 인덱스에서 검색합니다.
+     *
+     * @param titleOrder true면 관광지명 가나다순, false면 관련도순 (이름 일치 > 이름 시작 > 이름 포함 > 주소 포함)
+     */
+    public List<TourismPlace> searchPlaces(String keyword, String contentTypeId, boolean titleOrder, int pageNo, int numOfRows) {
+        return placeSearchTimer.record(() -> searchIndex.search(keyword, contentTypeId, titleOrder, pageNo, numOfRows));
+    }
+
+    private ContentTypeTable loadContentTypeTable(Connection connection) throws SQLException {
+        long startedAt = System.nanoTime();
+        int rowCount;
+        try (PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM tourism");
+             ResultSet rs = statement.executeQuery()) {
+            rowCount = rs.next() ? rs.getInt(1) : 0;
+        }
+
+        ContentTypeTable.Builder builder = ContentTypeTable.builder(rowCount);
+        String sql = "SELECT t.content_id, c.top_parent_code " +
+                "FROM tourism t LEFT JOIN category c ON t.category_id = c.category_id";
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet rs = statement.executeQuery()) {
             while (rs.next()) {
-                foundCount++;
-                int contentIdResult = rs.getInt("content_id");
-                String topParentCode = rs.getString("top_parent_code");
-                if (topParentCode != null) {
-                    contentTypeMap.put(contentIdResult, topParentCode);
-                    log.debug("Found mapping: contentId={} -> contentTypeId={}", contentIdResult, topParentCode);
-                } else {
-                    log.warn("Found contentId={} but its top_parent_code is NULL in category table.", contentIdResult);
-                    contentTypeMap.put(contentIdResult, null);
+                int contentId = rs.getInt("content_id");
+                if (contentId > 0) {
+                    builder.put(contentId, rs.getString("top_parent_code"));
                 }
             }
-            log.info("Query executed. Found {} mappings for {} input IDs.", foundCount, contentIds.size());
-            contentIds.forEach(id -> {
-                if (id != null && !contentTypeMap.containsKey(id)) {
-                    log.warn("No data or category mapping found for contentId: {}", id);
-                }
-            });
-        } catch (SQLException e) {
-            log.error("SQLite 조회 중 심각한 오류 발생. DB URL: [{}], SQL: [{}]. Error: {}", dbUrl, sql, e.getMessage(), e);
-        } finally {
-            try { if (rs != null) rs.close(); } catch (SQLException e) { log.error("ResultSet closing error", e); }
-            try { if (pstmt != null) pstmt.close(); } catch (SQLException e) { log.error("PreparedStatement closing error", e); }
-            try { if (conn != null) conn.close(); } catch (SQLException e) { log.error("Connection closing error", e); }
         }
-        return contentTypeMap;
+        ContentTypeTable table = builder.build();
+
+        log.info("SQLite contentId -> 타입 코드 테이블 적재 완료. 항목 수: {}, 코드 종류: {}, 추정 메모리: {} bytes, 소요: {} ms",
+                table.size(), table.codeCount(), table.estimatedBytes(), (System.nanoTime() - startedAt) / 1_000_000);
+        return table;
+    }
+
+    private TourismSearchIndex loadSearchIndex(Connection connection) throws SQLException {
+        long startedAt = System.nanoTime();
+        String sql = "SELECT t.content_id, t.title, t.addr1, t.lat, t.lon, c.top_parent_code " +
+                "FROM tourism t LEFT JOIN category c ON t.category_id = c.category_id " +
+                "WHERE t.title IS NOT NULL ORDER BY t.content_id";
+        List<TourismPlace> places = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                places.add(new TourismPlace(
+                        rs.getInt("content_id"),
+                        rs.getString("title"),
+                        rs.getString("addr1"),
+                        rs.getDouble("lat"),
+                        rs.getDouble("lon"),
+                        rs.getString("top_parent_code")));
+            }
+        }
+
+        TourismSearchIndex index = TourismSearchIndex.build(places);
+        log.info("SQLite 관광지 검색 인덱스 구성 완료. 문서 수: {}, 2-gram 수: {}, 소요: {} ms",
+                index.size(), index.termCount(), (System.nanoTime() - startedAt) / 1_000_000);
+        return index;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package com.flowerguys.localpiece.global.util;
+
+/**
+ * SQLite tourism 테이블의 관광지 한 건 (타입 코드는 category.top_parent_code)
+ */
+public record TourismPlace(
+        int contentId,
+        String title,
+        String addr1,
+        double lat,
+        double lon,
+        String contentTypeId) {
+}
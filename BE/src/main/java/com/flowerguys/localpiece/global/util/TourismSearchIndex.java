@@ -0,0 +1,244 @@
+package com.flowerguys.localpiece.global.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * SQLite tourism 데이터(관광지명, 주소)에 대한 메모리 내 키워드 검색 인덱스.
+ * 한국어는 띄어쓰기/조사 때문에 단어 단위 분리가 어려워, 공백과 기호를 뺀 문자열의 2-gram으로 역색인을 만듭니다.
+ * 검색어의 모든 2-gram을 포함하는 후보만 골라 실제 부분 일치를 확인한 뒤 관련도 순으로 정렬합니다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 조회해도 안전합니다.
+ */
+public final class TourismSearchIndex {
+
+    private static final int SCORE_TITLE_EXACT = 1000;
+    private static final int SCORE_TITLE_PREFIX = 500;
+    private static final int SCORE_TITLE_CONTAINS = 300;
+    private static final int SCORE_ADDRESS_CONTAINS = 100;
+
+    private final TourismPlace[] places;
+    private final String[] normalizedTitles;
+    private final String[] normalizedAddresses;
+    // 2-gram(두 글자를 int 하나로 묶은 값) -> 해당 2-gram을 포함하는 문서 번호 (오름차순)
+    private final Map<Integer, int[]> titlePostings;
+    private final Map<Integer, int[]> addressPostings;
+
+    private TourismSearchIndex(TourismPlace[] places, String[] normalizedTitles, String[] normalizedAddresses,
+                               Map<Integer, int[]> titlePostings, Map<Integer, int[]> addressPostings) {
+        this.places = places;
+        this.normalizedTitles = normalizedTitles;
+        this.normalizedAddresses = normalizedAddresses;
+        this.titlePostings = titlePostings;
+        this.addressPostings = addressPostings;
+    }
+
+    public static TourismSearchIndex build(List<TourismPlace> source) {
+        TourismPlace[] places = source.toArray(new TourismPlace[0]);
+        String[] titles = new String[places.length];
+        String[] addresses = new String[places.length];
+        Map<Integer, IntList> titleLists = new HashMap<>();
+        Map<Integer, IntList> addressLists = new HashMap<>();
+
+        for (int doc = 0; doc < places.length; doc++) {
+            titles[doc] = normalize(places[doc].title());
+            addresses[doc] = normalize(places[doc].addr1());
+            addPostings(titleLists, titles[doc], doc);
+            addPostings(addressLists, addresses[doc], doc);
+        }
+        return new TourismSearchIndex(places, titles, addresses, freeze(titleLists), freeze(addressLists));
+    }
+
+    public int size() {
+        return places.length;
+    }
+
+    public int termCount() {
+        return titlePostings.size() + addressPostings.size();
+    }
+
+    /**
+     * 키워드로 관광지를 검색합니다.
+     *
+     * @param contentTypeId 타입 코드 필터 (없으면 전체)
+     * @param titleOrder    true면 관련도 대신 관광지명 가나다순
+     */
+    public List<TourismPlace> search(String keyword, String contentTypeId, boolean titleOrder, int pageNo, int numOfRows) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (int doc : candidates(query)) {
+            TourismPlace place = places[doc];
+            if (contentTypeId != null && !contentTypeId.isEmpty() && !contentTypeId.equals(place.contentTypeId())) {
+                continue;
+            }
+            int score = score(query, normalizedTitles[doc], normalizedAddresses[doc]);
+            if (score > 0) {
+                hits.add(new Hit(doc, score));
+            }
+        }
+
+        Comparator<Hit> byTitle = Comparator.comparing(hit -> places[hit.doc()].title(),
+                Comparator.nullsLast(Comparator.<String>naturalOrder()));
+        Comparator<Hit> comparator = titleOrder ? byTitle
+                : Comparator.comparingInt(Hit::score).reversed()
+                        .thenComparingInt(hit -> normalizedTitles[hit.doc()].length())
+                        .thenComparing(byTitle);
+
+        return hits.stream()
+                .sorted(comparator)
+                .skip((long) Math.max(pageNo - 1, 0) * numOfRows)
+                .limit(numOfRows)
+                .map(hit -> places[hit.doc()])
+                .toList();
+    }
+
+    private int[] candidates(String query) {
+        if (query.length() < 2) {
+            // 한 글자 검색은 2-gram으로 좁힐 수 없어 전체를 확인
+            int[] all = new int[places.length];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        int[] grams = bigrams(query);
+        return union(intersect(titlePostings, grams), intersect(addressPostings, grams));
+    }
+
+    private static int score(String query, String title, String address) {
+        if (title.equals(query)) {
+            return SCORE_TITLE_EXACT;
+        }
+        if (title.startsWith(query)) {
+            return SCORE_TITLE_PREFIX;
+        }
+        if (title.contains(query)) {
+            return SCORE_TITLE_CONTAINS;
+        }
+        if (address.contains(query)) {
+            return SCORE_ADDRESS_CONTAINS;
+        }
+        return 0; // 2-gram은 모두 있지만 연속으로 일치하지 않는 경우
+    }
+
+    private static int[] intersect(Map<Integer, int[]> postings, int[] grams) {
+        int[][] lists = new int[grams.length][];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        // 짧은 목록부터 교집합을 구해 비교 횟수를 줄임
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    private static int[] union(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length || j < b.length) {
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                result[n++] = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                result[n++] = b[j++];
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    /**
+     * 소문자로 바꾸고 문자/숫자만 남깁니다. (예: "불국사 (경주)" -> "불국사경주")
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static int[] bigrams(String text) {
+        int[] grams = new int[Math.max(text.length() - 1, 0)];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (text.charAt(i) << 16) | text.charAt(i + 1);
+        }
+        return grams;
+    }
+
+    private static void addPostings(Map<Integer, IntList> lists, String text, int doc) {
+        for (int gram : bigrams(text)) {
+            lists.computeIfAbsent(gram, key -> new IntList()).addIfAbsent(doc);
+        }
+    }
+
+    private static Map<Integer, int[]> freeze(Map<Integer, IntList> lists) {
+        Map<Integer, int[]> frozen = new HashMap<>(lists.size() * 2);
+        lists.forEach((gram, list) -> frozen.put(gram, list.toArray()));
+        return Map.copyOf(frozen);
+    }
+
+    private record Hit(int doc, int score) {
+    }
+
+    /**
+     * 문서 번호를 오름차순으로만 추가하는 int 목록
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void addIfAbsent(int value) {
+            // 같은 문서에 같은 2-gram이 여러 번 나와도 한 번만 기록
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+-- 블로그 좋아요/댓글 개수 컬럼 추가 및 기존 데이터 백필 (PostgreSQL)
+-- ddl-auto를 끄고 스키마를 직접 관리하는 환경에서 배포 전에 한 번 실행합니다.
+-- ddl-auto=update 환경에서는 Hibernate가 DEFAULT 0으로 컬럼을 추가하고, 기동 시 BlogCounterReconciliationService가 값을 채웁니다.
+-- 여러 번 실행해도 안전합니다.
+
+BEGIN;
+
+ALTER TABLE blog ADD COLUMN IF NOT EXISTS like_count integer NOT NULL DEFAULT 0;
+ALTER TABLE blog ADD COLUMN IF NOT EXISTS comment_count integer NOT NULL DEFAULT 0;
+
+UPDATE blog b
+SET like_count = counted.cnt
+FROM (SELECT blog_id, COUNT(*) AS cnt FROM blog_like GROUP BY blog_id) counted
+WHERE counted.blog_id = b.blog_id
+  AND b.like_count <> counted.cnt;
+
+UPDATE blog b
+SET comment_count = counted.cnt
+FROM (SELECT blog_id, COUNT(*) AS cnt FROM comment GROUP BY blog_id) counted
+WHERE counted.blog_id = b.blog_id
+  AND b.comment_count <> counted.cnt;
+
+COMMIT;
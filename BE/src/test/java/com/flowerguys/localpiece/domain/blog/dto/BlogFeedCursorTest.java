@@ -0,0 +1,75 @@
+package com.flowerguys.localpiece.domain.blog.dto;
+
+import com.flowerguys.localpiece.global.common.ErrorCode;
+import com.flowerguys.localpiece.global.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlogFeedCursorTest {
+
+	@Test
+	void 마이크로초_단위_생성_시각도_그대로_복원한다() {
+		// PostgreSQL timestamp 정밀도(마이크로초)
+		BlogFeedCursor cursor = new BlogFeedCursor(LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_897_000), 42L);
+
+		assertThat(BlogFeedCursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	void 초와_나노초가_0인_생성_시각도_복원한다() {
+		// LocalDateTime.toString()은 이 경우 초를 생략함
+		BlogFeedCursor cursor = new BlogFeedCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 1L);
+
+		assertThat(BlogFeedCursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	void 나노초_단위_생성_시각과_큰_id도_복원한다() {
+		BlogFeedCursor cursor = new BlogFeedCursor(LocalDateTime.of(2024, 12, 31, 23, 59, 59, 999_999_999), Long.MAX_VALUE);
+
+		assertThat(BlogFeedCursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	void 커서는_URL에_그대로_쓸_수_있는_문자만_사용한다() {
+		BlogFeedCursor cursor = new BlogFeedCursor(LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_897_000), 42L);
+
+		assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+	}
+
+	@Test
+	void 요약_정보의_생성_시각과_id로_커서를_만든다() {
+		LocalDateTime createdAt = LocalDateTime.of(2025, 5, 5, 12, 30, 0, 123_456_000);
+		BlogSummary summary = new BlogSummary(7L, "제목", "작성자", null, createdAt, 0, 0, 0, false);
+
+		assertThat(BlogFeedCursor.of(summary)).isEqualTo(new BlogFeedCursor(createdAt, 7L));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "not base64!", "2025-01-01T00:00|1"})
+	void 잘못된_커서는_INVALID_ARGUMENT로_거절한다(String cursor) {
+		assertInvalid(cursor);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"2025-01-01T00:00", "2025-13-01T00:00|1", "2025-01-01T00:00|abc", "2025-01-01T00:00|", "|1"})
+	void 내용이_잘못된_커서는_INVALID_ARGUMENT로_거절한다(String raw) {
+		String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+		assertInvalid(cursor);
+	}
+
+	private static void assertInvalid(String cursor) {
+		assertThatThrownBy(() -> BlogFeedCursor.decode(cursor))
+				.isInstanceOf(BusinessException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_ARGUMENT);
+	}
+}
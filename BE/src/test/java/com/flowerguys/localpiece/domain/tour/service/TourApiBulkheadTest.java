@@ -0,0 +1,63 @@
+package com.flowerguys.localpiece.domain.tour.service;
+
+import com.flowerguys.localpiece.domain.tour.dto.TourApiProperties;
+import com.flowerguys.localpiece.global.common.ErrorCode;
+import com.flowerguys.localpiece.global.common.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TourApiBulkheadTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private TourApiBulkhead bulkhead;
+
+	@BeforeEach
+	void setUp() {
+		TourApiProperties properties = new TourApiProperties();
+		properties.getResilience().setMaxConcurrentCalls(1);
+		properties.getResilience().setMaxWait(Duration.ofMillis(10));
+		meterRegistry = new SimpleMeterRegistry();
+		bulkhead = new TourApiBulkhead(properties, meterRegistry);
+	}
+
+	@Test
+	void 슬롯이_모두_사용_중이면_기다리다_거절한다() {
+		String result = bulkhead.execute(() -> {
+			assertThatThrownBy(() -> bulkhead.execute(() -> "second"))
+					.isInstanceOf(BusinessException.class)
+					.hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOUR_API_UNAVAILABLE);
+			return "first";
+		});
+
+		assertThat(result).isEqualTo("first");
+		assertThat(meterRegistry.get("tour.api.bulkhead.rejected").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void 호출이_끝나면_슬롯을_돌려준다() {
+		bulkhead.execute(() -> "first");
+
+		assertThat(bulkhead.execute(() -> "second")).isEqualTo("second");
+		assertThat(available()).isEqualTo(1);
+	}
+
+	@Test
+	void 호출이_실패해도_슬롯을_돌려준다() {
+		assertThatThrownBy(() -> bulkhead.execute(() -> {
+			throw new IllegalStateException("connection reset");
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(available()).isEqualTo(1);
+		assertThat(bulkhead.execute(() -> "next")).isEqualTo("next");
+	}
+
+	private double available() {
+		return meterRegistry.get("tour.api.bulkhead.available").gauge().value();
+	}
+}
@@ -0,0 +1,162 @@
+package com.flowerguys.localpiece.domain.tour.service;
+
+import com.flowerguys.localpiece.domain.tour.dto.TourApiProperties;
+import com.flowerguys.localpiece.global.common.ErrorCode;
+import com.flowerguys.localpiece.global.common.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TourApiCircuitBreakerTest {
+
+	private static final String OPERATION = "/areaBasedList2";
+	private static final double CLOSED = 0;
+	private static final double OPEN = 1;
+
+	private TourApiProperties properties;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		properties = new TourApiProperties();
+		TourApiProperties.ResilienceSettings resilience = properties.getResilience();
+		resilience.setSlidingWindowSize(4);
+		resilience.setMinimumCalls(4);
+		resilience.setFailureRateThreshold(50);
+		resilience.setOpenDuration(Duration.ofMinutes(1));
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	void 실패율이_임계치에_도달하면_회로가_열린다() {
+		TourApiCircuitBreaker breaker = newBreaker();
+
+		succeed(breaker);
+		succeed(breaker);
+		fail(breaker);
+		assertThat(state()).isEqualTo(CLOSED);
+
+		fail(breaker);
+		assertThat(state()).isEqualTo(OPEN);
+
+		AtomicInteger calls = new AtomicInteger();
+		assertRejected(() -> breaker.execute(OPERATION, calls::incrementAndGet));
+		assertThat(calls).hasValue(0);
+	}
+
+	@Test
+	void 최소_호출_수보다_적으면_모두_실패해도_닫혀_있다() {
+		TourApiCircuitBreaker breaker = newBreaker();
+
+		fail(breaker);
+		fail(breaker);
+		fail(breaker);
+
+		assertThat(state()).isEqualTo(CLOSED);
+	}
+
+	@Test
+	void 호출하는_쪽의_오류는_실패로_집계하지_않는다() {
+		TourApiCircuitBreaker breaker = newBreaker();
+
+		for (int i = 0; i < 4; i++) {
+			assertThatThrownBy(() -> breaker.execute(OPERATION, () -> {
+				throw new BusinessException(ErrorCode.INVALID_ARGUMENT);
+			})).isInstanceOf(BusinessException.class);
+		}
+
+		assertThat(state()).isEqualTo(CLOSED);
+	}
+
+	@Test
+	void 업스트림_결과_코드_오류는_실패로_집계한다() {
+		TourApiCircuitBreaker breaker = newBreaker();
+
+		for (int i = 0; i < 4; i++) {
+			assertThatThrownBy(() -> breaker.execute(OPERATION, () -> {
+				throw new BusinessException(ErrorCode.TOUR_API_ERROR);
+			})).hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOUR_API_ERROR);
+		}
+
+		assertThat(state()).isEqualTo(OPEN);
+	}
+
+	@Test
+	void 반열림_상태에서는_시험_호출을_한_건만_허용하고_성공하면_닫힌다() {
+		properties.getResilience().setOpenDuration(Duration.ZERO);
+		TourApiCircuitBreaker breaker = newBreaker();
+		open(breaker);
+
+		// 시험 호출이 진행 중인 동안 들어온 호출은 거절
+		String result = breaker.execute(OPERATION, () -> {
+			assertRejected(() -> breaker.execute(OPERATION, () -> "second"));
+			return "trial";
+		});
+
+		assertThat(result).isEqualTo("trial");
+		assertThat(state()).isEqualTo(CLOSED);
+	}
+
+	@Test
+	void 시험_호출이_실패하면_다시_열린다() {
+		properties.getResilience().setOpenDuration(Duration.ZERO);
+		TourApiCircuitBreaker breaker = newBreaker();
+		open(breaker);
+
+		fail(breaker);
+
+		assertThat(state()).isEqualTo(OPEN);
+	}
+
+	@Test
+	void 시험_호출에서_Error가_나도_다음_시험_호출이_가능하다() {
+		properties.getResilience().setOpenDuration(Duration.ZERO);
+		TourApiCircuitBreaker breaker = newBreaker();
+		open(breaker);
+
+		assertThatThrownBy(() -> breaker.execute(OPERATION, () -> {
+			throw new StackOverflowError();
+		})).isInstanceOf(StackOverflowError.class);
+		assertThat(state()).isEqualTo(OPEN);
+
+		succeed(breaker);
+		assertThat(state()).isEqualTo(CLOSED);
+	}
+
+	private TourApiCircuitBreaker newBreaker() {
+		return new TourApiCircuitBreaker(properties, meterRegistry);
+	}
+
+	private void open(TourApiCircuitBreaker breaker) {
+		for (int i = 0; i < 4; i++) {
+			fail(breaker);
+		}
+		assertThat(state()).isEqualTo(OPEN);
+	}
+
+	private void succeed(TourApiCircuitBreaker breaker) {
+		assertThat(breaker.execute(OPERATION, () -> "ok")).isEqualTo("ok");
+	}
+
+	private void fail(TourApiCircuitBreaker breaker) {
+		assertThatThrownBy(() -> breaker.execute(OPERATION, () -> {
+			throw new IllegalStateException("connection reset");
+		})).isInstanceOf(IllegalStateException.class);
+	}
+
+	private void assertRejected(Runnable call) {
+		assertThatThrownBy(call::run)
+				.isInstanceOf(BusinessException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOUR_API_UNAVAILABLE);
+	}
+
+	private double state() {
+		return meterRegistry.get("tour.api.circuit.state").tag("operation", OPERATION).gauge().value();
+	}
+}
@@ -0,0 +1,132 @@
+package com.flowerguys.localpiece.domain.tour.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowerguys.localpiece.domain.tour.dto.TourApiPage;
+import com.flowerguys.localpiece.domain.tour.dto.TourItemDto;
+import com.flowerguys.localpiece.global.common.ErrorCode;
+import com.flowerguys.localpiece.global.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TourApiResponseParserTest {
+
+	private final TourApiResponseParser parser = new TourApiResponseParser(new ObjectMapper());
+
+	@Test
+	void item_배열과_totalCount를_읽는다() throws IOException {
+		TourApiPage<TourItemDto> page = parse("""
+				{"response": {
+				  "header": {"resultCode": "0000", "resultMsg": "OK"},
+				  "body": {
+				    "items": {"item": [
+				      {"contentid": "126508", "title": "불국사", "mapx": "129.3320", "mapy": "35.7900", "unknown": {"nested": [1, 2]}},
+				      {"contentid": "126509", "title": "석굴암"}
+				    ]},
+				    "numOfRows": 2, "pageNo": 1, "totalCount": 1523
+				  }
+				}}
+				""");
+
+		assertThat(page.totalCount()).isEqualTo(1523);
+		assertThat(page.items()).extracting(TourItemDto::getContentid).containsExactly("126508", "126509");
+		assertThat(page.items().get(0).getTitle()).isEqualTo("불국사");
+		assertThat(page.items().get(0).getMapx()).isEqualTo("129.3320");
+	}
+
+	@Test
+	void 결과가_한_건이면_item이_객체로_와도_읽는다() throws IOException {
+		TourApiPage<TourItemDto> page = parse("""
+				{"response": {
+				  "header": {"resultCode": "0000", "resultMsg": "OK"},
+				  "body": {"items": {"item": {"contentid": "126508"}}, "totalCount": 1}
+				}}
+				""");
+
+		assertThat(page.items()).extracting(TourItemDto::getContentid).containsExactly("126508");
+		assertThat(page.totalCount()).isEqualTo(1);
+	}
+
+	@Test
+	void 결과가_없으면_빈_문자열_items를_빈_목록으로_읽는다() throws IOException {
+		TourApiPage<TourItemDto> page = parse("""
+				{"response": {
+				  "header": {"resultCode": "0000", "resultMsg": "OK"},
+				  "body": {"items": "", "numOfRows": 10, "pageNo": 1, "totalCount": 0}
+				}}
+				""");
+
+		assertThat(page.items()).isEmpty();
+		assertThat(page.totalCount()).isZero();
+	}
+
+	@Test
+	void 헤더가_본문_뒤에_와도_결과_코드를_검증한다() throws IOException {
+		TourApiPage<TourItemDto> page = parse("""
+				{"response": {
+				  "body": {"items": {"item": [{"contentid": "1"}]}},
+				  "header": {"resultCode": "0000", "resultMsg": "OK"}
+				}}
+				""");
+
+		assertThat(page.items()).hasSize(1);
+		assertThat(page.totalCount()).isZero();
+	}
+
+	@Test
+	void 헤더의_실패_코드는_TOUR_API_ERROR로_처리한다() {
+		assertTourApiError("""
+				{"response": {
+				  "header": {"resultCode": "22", "resultMsg": "LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR"},
+				  "body": {"items": {"item": [{"contentid": "1"}]}}
+				}}
+				""");
+	}
+
+	@Test
+	void 본문_뒤의_헤더에_있는_실패_코드도_TOUR_API_ERROR로_처리한다() {
+		assertTourApiError("""
+				{"response": {
+				  "body": {"items": ""},
+				  "header": {"resultCode": "10", "resultMsg": "INVALID_REQUEST_PARAMETER_ERROR"}
+				}}
+				""");
+	}
+
+	@Test
+	void 최상위에만_결과_코드가_오는_오류_응답도_TOUR_API_ERROR로_처리한다() {
+		assertTourApiError("""
+				{"resultCode": "10", "resultMsg": "INVALID_REQUEST_PARAMETER_ERROR(MobileOS)"}
+				""");
+	}
+
+	@Test
+	void 결과_코드가_없으면_TOUR_API_ERROR로_처리한다() {
+		assertTourApiError("""
+				{"response": {"body": {"items": ""}}}
+				""");
+	}
+
+	@Test
+	void JSON_객체가_아니면_IOException을_던진다() {
+		assertThatThrownBy(() -> parse("<OpenAPI_ServiceResponse><cmmMsgHeader/></OpenAPI_ServiceResponse>"))
+				.isInstanceOf(IOException.class);
+		assertThatThrownBy(() -> parse("[]"))
+				.isInstanceOf(IOException.class);
+	}
+
+	private TourApiPage<TourItemDto> parse(String json) throws IOException {
+		return parser.parsePage(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), TourItemDto.class);
+	}
+
+	private void assertTourApiError(String json) {
+		assertThatThrownBy(() -> parse(json))
+				.isInstanceOf(BusinessException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOUR_API_ERROR);
+	}
+}
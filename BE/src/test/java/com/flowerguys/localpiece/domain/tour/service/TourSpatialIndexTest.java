@@ -0,0 +1,123 @@
+package com.flowerguys.localpiece.domain.tour.service;
+
+import com.flowerguys.localpiece.domain.tour.dto.TourItemDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TourSpatialIndexTest {
+
+	// 경주 부근
+	private static final double BASE_LON = 129.2;
+	private static final double BASE_LAT = 35.8;
+
+	@Test
+	void 반경_조회_결과가_전체_거리_계산_결과와_같다() {
+		Random random = new Random(42);
+		List<TourItemDto> items = new ArrayList<>();
+		for (int i = 0; i < 2_000; i++) {
+			// 약 0.3도(30km) 범위에 흩어진 점
+			items.add(item(i, BASE_LON + random.nextDouble() * 0.3 - 0.15, BASE_LAT + random.nextDouble() * 0.3 - 0.15));
+		}
+		TourSpatialIndex index = TourSpatialIndex.build(items);
+
+		double[] radii = {100, 999, 1_113, 2_500, 7_777, 20_000};
+		for (int i = 0; i < 50; i++) {
+			double centerLon = BASE_LON + random.nextDouble() * 0.2 - 0.1;
+			double centerLat = BASE_LAT + random.nextDouble() * 0.2 - 0.1;
+			for (double radius : radii) {
+				assertThat(search(index, centerLon, centerLat, radius))
+						.as("center=(%s, %s), radius=%s", centerLon, centerLat, radius)
+						.isEqualTo(bruteForce(items, centerLon, centerLat, radius));
+			}
+		}
+	}
+
+	@Test
+	void 셀_경계_너머의_항목도_찾는다() {
+		// 격자 한 칸은 0.01도. 중심과 항목이 서로 다른 셀에 있지만 수십 m 거리
+		double centerLon = 129.2099;
+		double centerLat = 35.8099;
+		List<TourItemDto> items = List.of(
+				item(0, 129.2101, 35.8099),
+				item(1, 129.2099, 35.8101),
+				item(2, 129.2101, 35.8101),
+				item(3, 129.2098, 35.8098));
+		TourSpatialIndex index = TourSpatialIndex.build(items);
+
+		assertThat(search(index, centerLon, centerLat, 100).keySet()).containsExactlyInAnyOrder(0, 1, 2, 3);
+	}
+
+	@Test
+	void 반경_경계에_정확히_걸친_항목은_포함하고_조금이라도_밖이면_제외한다() {
+		double itemLon = BASE_LON + 0.0137;
+		double itemLat = BASE_LAT + 0.0071;
+		TourSpatialIndex index = TourSpatialIndex.build(List.of(item(0, itemLon, itemLat)));
+		double distance = TourSpatialIndex.haversine(BASE_LAT, BASE_LON, itemLat, itemLon);
+
+		assertThat(search(index, BASE_LON, BASE_LAT, distance)).containsOnlyKeys(0);
+		assertThat(search(index, BASE_LON, BASE_LAT, Math.nextDown(distance))).isEmpty();
+	}
+
+	@Test
+	void 거리는_하버사인_거리로_전달한다() {
+		TourSpatialIndex index = TourSpatialIndex.build(List.of(item(0, BASE_LON + 0.01, BASE_LAT)));
+
+		Map<Integer, Double> hits = search(index, BASE_LON, BASE_LAT, 5_000);
+
+		// 위도 35.8도에서 경도 0.01도는 약 902m
+		assertThat(hits.get(0)).isCloseTo(902, within(2.0));
+	}
+
+	@Test
+	void 좌표가_없는_항목은_인덱싱하지_않는다() {
+		TourItemDto noCoordinates = TourItemDto.builder().contentid("1").build();
+		TourItemDto invalid = TourItemDto.builder().contentid("2").mapx("abc").mapy("35.8").build();
+		TourSpatialIndex index = TourSpatialIndex.build(List.of(noCoordinates, invalid, item(2, BASE_LON, BASE_LAT)));
+
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(search(index, BASE_LON, BASE_LAT, 10)).containsOnlyKeys(2);
+	}
+
+	@Test
+	void 반경이_양수가_아니면_아무것도_찾지_않는다() {
+		TourSpatialIndex index = TourSpatialIndex.build(List.of(item(0, BASE_LON, BASE_LAT)));
+
+		assertThat(search(index, BASE_LON, BASE_LAT, 0)).isEmpty();
+		assertThat(search(index, BASE_LON, BASE_LAT, -1)).isEmpty();
+		assertThat(search(index, BASE_LON, BASE_LAT, Double.NaN)).isEmpty();
+	}
+
+	private static TourItemDto item(int id, double lon, double lat) {
+		return TourItemDto.builder()
+				.contentid(String.valueOf(id))
+				.mapx(String.valueOf(lon))
+				.mapy(String.valueOf(lat))
+				.build();
+	}
+
+	private static Map<Integer, Double> search(TourSpatialIndex index, double lon, double lat, double radius) {
+		Map<Integer, Double> hits = new HashMap<>();
+		index.searchRadius(lon, lat, radius, hits::put);
+		return hits;
+	}
+
+	private static Map<Integer, Double> bruteForce(List<TourItemDto> items, double lon, double lat, double radius) {
+		Map<Integer, Double> hits = new HashMap<>();
+		for (int i = 0; i < items.size(); i++) {
+			double distance = TourSpatialIndex.haversine(lat, lon,
+					Double.parseDouble(items.get(i).getMapy()), Double.parseDouble(items.get(i).getMapx()));
+			if (distance <= radius) {
+				hits.put(i, distance);
+			}
+		}
+		return hits;
+	}
+}
@@ -0,0 +1,117 @@
+package com.flowerguys.localpiece.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentTypeTableTest {
+
+	private static final String[] CODES = {"AC", "C01", "EV", "EX", "FD", "HS", "LS", "NA", "SH", "VE"};
+
+	@Test
+	void 해시맵과_같은_결과를_돌려준다() {
+		Random random = new Random(7);
+		Map<Integer, String> expected = new HashMap<>();
+		// 연속된 id와 흩어진 id를 섞어 탐사 충돌을 만듦
+		for (int id = 125_000; id < 130_000; id++) {
+			expected.put(id, CODES[random.nextInt(CODES.length)]);
+		}
+		while (expected.size() < 20_000) {
+			expected.put(1 + random.nextInt(Integer.MAX_VALUE - 1), random.nextInt(20) == 0 ? null : CODES[random.nextInt(CODES.length)]);
+		}
+
+		ContentTypeTable.Builder builder = ContentTypeTable.builder(expected.size());
+		expected.forEach(builder::put);
+		ContentTypeTable table = builder.build();
+
+		assertThat(table.size()).isEqualTo(expected.size());
+		expected.forEach((id, code) -> {
+			assertThat(table.contains(id)).as("contains %d", id).isTrue();
+			assertThat(table.get(id)).as("get %d", id).isEqualTo(code);
+		});
+		for (int i = 0; i < 10_000; i++) {
+			int id = 1 + random.nextInt(Integer.MAX_VALUE - 1);
+			if (!expected.containsKey(id)) {
+				assertThat(table.contains(id)).as("contains %d", id).isFalse();
+				assertThat(table.get(id)).isNull();
+			}
+		}
+	}
+
+	@Test
+	void 코드가_NULL인_행은_포함되지만_코드는_null이다() {
+		ContentTypeTable table = ContentTypeTable.builder(1).put(126508, null).build();
+
+		assertThat(table.contains(126508)).isTrue();
+		assertThat(table.get(126508)).isNull();
+		assertThat(table.codeCount()).isZero();
+	}
+
+	@Test
+	void 없는_id와_양수가_아닌_id는_찾지_못한다() {
+		ContentTypeTable table = ContentTypeTable.builder(2).put(1, "AC").put(2, "EV").build();
+
+		assertThat(table.contains(3)).isFalse();
+		assertThat(table.get(3)).isNull();
+		assertThat(table.contains(0)).isFalse();
+		assertThat(table.get(0)).isNull();
+		assertThat(table.contains(-1)).isFalse();
+	}
+
+	@Test
+	void 같은_id를_다시_넣으면_나중_값으로_덮어쓰고_개수는_그대로다() {
+		ContentTypeTable table = ContentTypeTable.builder(1).put(10, "AC").put(10, "EV").build();
+
+		assertThat(table.size()).isEqualTo(1);
+		assertThat(table.get(10)).isEqualTo("EV");
+	}
+
+	@Test
+	void 같은_코드_문자열은_한_번만_보관한다() {
+		ContentTypeTable.Builder builder = ContentTypeTable.builder(100);
+		for (int id = 1; id <= 100; id++) {
+			builder.put(id, id % 2 == 0 ? "AC" : "EV");
+		}
+		ContentTypeTable table = builder.build();
+
+		assertThat(table.codeCount()).isEqualTo(2);
+		assertThat(table.get(99)).isEqualTo("EV");
+		assertThat(table.get(100)).isEqualTo("AC");
+	}
+
+	@Test
+	void 빈_테이블도_조회할_수_있다() {
+		ContentTypeTable table = ContentTypeTable.builder(0).build();
+
+		assertThat(table.size()).isZero();
+		assertThat(table.contains(1)).isFalse();
+		assertThat(table.estimatedBytes()).isPositive();
+	}
+
+	@Test
+	void 양수가_아닌_id는_추가할_수_없다() {
+		ContentTypeTable.Builder builder = ContentTypeTable.builder(1);
+
+		assertThatThrownBy(() -> builder.put(0, "AC")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> builder.put(-5, "AC")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void 예상_개수는_모두_담고_적재율_한도를_넘으면_거절한다() {
+		ContentTypeTable.Builder builder = ContentTypeTable.builder(8);
+		// 예상 개수 8 -> 용량 16, 적재율 50%까지 8개
+		for (int id = 1; id <= 8; id++) {
+			builder.put(id, "AC");
+		}
+
+		// 이미 있는 id를 덮어쓰는 것은 허용
+		builder.put(8, "EV");
+		assertThatThrownBy(() -> builder.put(9, "AC")).isInstanceOf(IllegalStateException.class);
+		assertThat(builder.build().size()).isEqualTo(8);
+	}
+}
@@ -0,0 +1,123 @@
+package com.flowerguys.localpiece.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TourismSearchIndexTest {
+
+	private static final List<TourismPlace> PLACES = List.of(
+			place(1, "불국사", "경상북도 경주시 불국로 385", "12"),
+			place(2, "경주 불국사 숙박", "경상북도 경주시 진현동", "32"),
+			place(3, "석굴암", "경상북도 경주시 불국로 873-243", "12"),
+			place(4, "불국사역", "경상북도 경주시 구정동", "12"),
+			place(5, "안동 하회마을", "경상북도 안동시 풍천면 전서로 186", "12"),
+			place(6, "Gyeongju World", "경상북도 경주시 보문로 544", "28"),
+			place(7, "하회 (탈춤) 공연장", "경상북도 안동시 풍천면", "15"),
+			place(8, "불 국 사 카페", "경상북도 포항시", "39"));
+
+	private final TourismSearchIndex index = TourismSearchIndex.build(PLACES);
+
+	@Test
+	void 관련도_순으로_이름_일치_시작_포함_주소_포함을_정렬한다() {
+		List<Integer> ids = ids(index.search("불국사", null, false, 1, 10));
+
+		// 이름 일치(1) > 이름 시작(4, 8은 공백 제거 후 시작. 같은 점수면 이름이 짧은 순) > 이름 포함(2)
+		assertThat(ids).containsExactly(1, 4, 8, 2);
+	}
+
+	@Test
+	void 주소에만_있는_키워드도_찾는다() {
+		assertThat(ids(index.search("불국로", null, false, 1, 10))).containsExactly(1, 3);
+	}
+
+	@Test
+	void 공백과_기호_대소문자를_무시한다() {
+		assertThat(ids(index.search("하회(탈춤)", null, false, 1, 10))).containsExactly(7);
+		assertThat(ids(index.search("gyeongju world", null, false, 1, 10))).containsExactly(6);
+	}
+
+	@Test
+	void 두_글자_조각이_모두_있어도_연속으로_일치하지_않으면_제외한다() {
+		TourismSearchIndex scattered = TourismSearchIndex.build(List.of(place(1, "경주시 주경", "서울", "12")));
+
+		// "경주"와 "주경"은 모두 있지만 "경주경"은 없음
+		assertThat(scattered.search("경주경", null, false, 1, 10)).isEmpty();
+	}
+
+	@Test
+	void 타입_코드로_거른다() {
+		assertThat(ids(index.search("불국사", "12", false, 1, 10))).containsExactly(1, 4);
+		assertThat(ids(index.search("불국사", "", false, 1, 10))).hasSize(4);
+	}
+
+	@Test
+	void 이름순_정렬과_페이지를_지원한다() {
+		assertThat(ids(index.search("경주", null, true, 1, 10))).containsExactly(6, 2, 1, 4, 3);
+		assertThat(ids(index.search("경주", null, true, 2, 2))).containsExactly(1, 4);
+		assertThat(index.search("경주", null, true, 4, 2)).isEmpty();
+	}
+
+	@Test
+	void 한_글자_검색은_전체에서_찾는다() {
+		assertThat(ids(index.search("탑", null, false, 1, 10))).isEmpty();
+		assertThat(ids(index.search("암", null, false, 1, 10))).containsExactly(3);
+	}
+
+	@Test
+	void 빈_검색어는_결과가_없다() {
+		assertThat(index.search("", null, false, 1, 10)).isEmpty();
+		assertThat(index.search(" ()", null, false, 1, 10)).isEmpty();
+		assertThat(index.search(null, null, false, 1, 10)).isEmpty();
+	}
+
+	@Test
+	void 전체_부분_문자열_검사와_같은_문서를_찾는다() {
+		Random random = new Random(3);
+		String alphabet = "경주안동불국사하회마을시";
+		List<TourismPlace> places = new ArrayList<>();
+		for (int i = 1; i <= 500; i++) {
+			places.add(place(i, randomText(random, alphabet, 2 + random.nextInt(8)),
+					random.nextBoolean() ? null : randomText(random, alphabet, 10), "12"));
+		}
+		TourismSearchIndex randomIndex = TourismSearchIndex.build(places);
+
+		for (int i = 0; i < 200; i++) {
+			String query = randomText(random, alphabet, 1 + random.nextInt(3));
+			List<Integer> expected = places.stream()
+					.filter(place -> place.title().contains(query) || (place.addr1() != null && place.addr1().contains(query)))
+					.map(TourismPlace::contentId)
+					.toList();
+
+			assertThat(ids(randomIndex.search(query, null, false, 1, places.size())))
+					.as("query=%s", query)
+					.containsExactlyInAnyOrderElementsOf(expected);
+		}
+	}
+
+	@Test
+	void 정규화는_소문자로_바꾸고_문자와_숫자만_남긴다() {
+		assertThat(TourismSearchIndex.normalize("불국사 (경주) No.1!")).isEqualTo("불국사경주no1");
+		assertThat(TourismSearchIndex.normalize(null)).isEmpty();
+	}
+
+	private static TourismPlace place(int id, String title, String addr1, String contentTypeId) {
+		return new TourismPlace(id, title, addr1, 35.8, 129.2, contentTypeId);
+	}
+
+	private static String randomText(Random random, String alphabet, int length) {
+		StringBuilder builder = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return builder.toString();
+	}
+
+	private static List<Integer> ids(List<TourismPlace> places) {
+		return places.stream().map(TourismPlace::contentId).toList();
+	}
+}
@@ -1,10 +1,12 @@
 import apiClient from "./client";
 
-import { Blog, BlogCreateRequest, BlogResponse, BlogDetailResponse, CommentCreateRequest, BlogCommentResponse, BlogAiCreateResponse, BlogAiCreatePayload, JobStatusResponse } from "@/types/blog";
+import { Blog, BlogFeedResponse, BlogCreateRequest, BlogResponse, BlogDetailResponse, CommentCreateRequest, BlogCommentResponse, BlogAiCreateResponse, BlogAiCreatePayload, JobStatusResponse } from "@/types/blog";
 
-// ✅ 블로그 목록 조회
-export const getBlogs = async (): Promise<Blog[]> => {
-  const res = await apiClient.get("/blogs"); // /api/blogs 프록시 적용됨
+// ✅ 블로그 목록 조회 (cursor 없이 호출하면 첫 페이지)
+export const getBlogs = async (cursor?: string | null, size = 20): Promise<BlogFeedResponse> => {
+  const res = await apiClient.get<BlogFeedResponse>("/blogs", {
+    params: { cursor: cursor ?? undefined, size },
+  }); // /api/blogs 프록시 적용됨
   return res.data;
 };
 
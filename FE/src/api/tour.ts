@@ -1,5 +1,16 @@
 import apiClient from "./client";
-import { TourCommonResponse, TourIntroResponse, TourInfoResponse, TourImageResponse, KeywordSearchParams, KeywordTourItem, AreaBasedParams, AreaBasedTourItem } from "../types/tour";
+import { TourCommonResponse, TourIntroResponse, TourInfoResponse, TourImageResponse, TourDetailResponse, KeywordSearchParams, KeywordTourItem, AreaBasedParams, AreaBasedTourItem } from "../types/tour";
+
+/**
+ * ✅ 관광지 상세 통합 조회 (공통/소개/반복/이미지/반려동물 정보)
+ * GET /api/tour/detail/{contentId}?contentTypeId=12
+ */
+export const getTourDetail = async (contentId: string, contentTypeId: string) => {
+  const res = await apiClient.get<TourDetailResponse>(`/tour/detail/${contentId}`, {
+    params: { contentTypeId },
+  });
+  return res.data;
+};
 
 /**
  * ✅ 관광지 공통정보 조회
@@ -2,7 +2,7 @@ import { useLocation, useNavigate } from "react-router-dom";
 import { useEffect, useState } from "react";
 import SearchBar from "../../components/home/SearchBar";
 import TourMap from "../../components/tour/TourMap";
-import { getTourCommon, getTourIntro, getTourInfo, getTourImages } from "../../api/tour";
+import { getTourDetail } from "../../api/tour";
 import { TourCommonResponse, TourIntroResponse, TourInfoResponse, TourImageResponse } from "../../types/tour";
 import { MapPin, ExternalLink, Phone, Share2, ArrowLeft, Clock4, Landmark, BadgeInfo, Images, ChevronDown, ChevronUp, MapPinned, Link as LinkIcon } from "lucide-react";
 import TourImageModal from "./TourImageModal";
@@ -95,17 +95,12 @@ const TourDetail = () => {
         // 2) 최종 문자열 변환 (둘 다 없으면 undefined 유지)
         const contentTypeId = rawContentType == null ? undefined : String(rawContentType);
         // 사용
-        const [commonRes, introRes, infoRes, imageRes] = await Promise.all([
-          getTourCommon(state.id),
-          getTourIntro(state.id, String(contentTypeId)),
-          getTourInfo(state.id, String(contentTypeId)),
-          getTourImages(state.id),
-        ]);
-
-        setCommon(commonRes[0] || null);
-        setIntro(introRes[0] || null);
-        setInfo(infoRes || []);
-        setImages(imageRes || []);
+        const detail = await getTourDetail(state.id, String(contentTypeId));
+
+        setCommon(detail.common || null);
+        setIntro(detail.intro || null);
+        setInfo(detail.info || []);
+        setImages(detail.images || []);
       } catch (err) {
       } finally {
         setLoading(false);
@@ -14,6 +14,8 @@ const BlogPage = () => {
   const [showModal, setShowModal] = useState(false);
   const [loading, setLoading] = useState(false);
   const [blogs, setBlogs] = useState<Blog[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [files, setFiles] = useState<File[]>([]); // ✅ 선택된 이미지들
   const [city, setCity] = useState("경북"); // ✅ request.city
   const [useV2, setUseV2] = useState(false); // ✅ request.useV2
@@ -38,13 +40,29 @@ const BlogPage = () => {
     try {
       setLoading(true);
       const data = await getBlogs();
-      setBlogs(data);
+      setBlogs(data.blogs);
+      setNextCursor(data.nextCursor);
     } catch (err) {
     } finally {
       setLoading(false);
     }
   };
 
+  // ✅ 다음 페이지 이어서 불러오기
+  const fetchMoreBlogs = async () => {
+    if (!nextCursor || loadingMore) return;
+    try {
+      setLoadingMore(true);
+      const data = await getBlogs(nextCursor);
+      setBlogs((prev) => [...prev, ...data.blogs]);
+      setNextCursor(data.nextCursor);
+    } catch (err) {
+      toast.error("블로그를 더 불러오지 못했습니다.");
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   useEffect(() => {
     fetchBlogs();
   }, []);
@@ -181,6 +199,18 @@ const BlogPage = () => {
             </div>
           ))}
         </div>
+
+        {nextCursor && (
+          <div className="flex justify-center mt-10">
+            <button
+              onClick={fetchMoreBlogs}
+              disabled={loadingMore}
+              className="bg-white border border-gray-300 hover:bg-gray-100 text-gray-700 px-6 py-2 rounded-lg font-semibold transition disabled:opacity-50"
+            >
+              {loadingMore ? "불러오는 중..." : "더 보기"}
+            </button>
+          </div>
+        )}
       </section>
 
       {/* 모달 */}
@@ -12,6 +12,12 @@ export interface Blog {
   private?: boolean;
 }
 
+// 블로그 피드 한 페이지 (nextCursor가 null이면 마지막 페이지)
+export interface BlogFeedResponse {
+  blogs: Blog[];
+  nextCursor: string | null;
+}
+
 // 블로그 콘텐츠 타입
 export type BlogContentType = "TEXT" | "IMAGE";
 
@@ -168,3 +168,13 @@ export interface AreaBasedTourItem {
   lclsSystm2?: string;
   lclsSystm3?: string;
 }
+
+// ✅ 관광지 상세 통합 조회 응답 타입 (실패한 항목은 비어 있고 failedParts에 이름이 담김)
+export interface TourDetailResponse {
+  common: TourCommonResponse | null;
+  intro: TourIntroResponse | null;
+  info: TourInfoResponse[];
+  images: TourImageResponse[];
+  petTour: Record<string, string | null> | null;
+  failedParts: string[];
+}